@@ -16,6 +16,13 @@ public class CreateHandler extends BaseHandlerStd {
     public static final String ID_WRONG_FORMAT = "ACL must begin with a letter; must contain only lowercase ASCII "
         + "letters, digits, and hyphens; and must not end with a hyphen or contain two consecutive hyphens.";
 
+    public CreateHandler() {
+    }
+
+    CreateHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -26,7 +33,7 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
 
         ResourceModel resourceModel = request.getDesiredResourceState();
-        logger.log(String.format("Resource model: %s", resourceModel.toString()));
+        HandlerLogger.debug(logger, () -> "Resource model: " + HandlerLogger.render(resourceModel));
 
         if (!resourceModel.getACLName().matches("[a-z][a-z0-9\\\\-]*")) {
             throw new CfnInvalidRequestException(ID_WRONG_FORMAT);
@@ -40,9 +47,9 @@ public class CreateHandler extends BaseHandlerStd {
                     .makeServiceCall((awsRequest, client) -> handleExceptions(() ->
                         client.injectCredentialsAndInvokeV2(awsRequest, client.client()::createACL)))
                     .stabilize(
-                        (updateUserRequest, updateUserResponse, proxyInvocation, model, context) -> isAclStabilized(
-                            proxyInvocation, model, logger))
+                        (updateUserRequest, updateUserResponse, proxyInvocation, model, context) -> pollStabilization(
+                            () -> isAclStabilized(proxyInvocation, model, context, logger)))
                     .progress()
-            ).then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            ).then(progress -> new ReadHandler(this).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 }
@@ -12,8 +12,17 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
+    // Recorded in the stabilization timeline once the ACL is gone
+    private static final String DELETED_STATUS = "deleted";
     private Logger logger;
 
+    public DeleteHandler() {
+    }
+
+    DeleteHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -69,8 +78,8 @@ public class DeleteHandler extends BaseHandlerStd {
                     }
                 });
             })
-            .stabilize((deleteUserRequest, deleteUserResponse, proxyInvocation, model, context) -> isAclDeleted(
-                proxyInvocation, model, logger))
+            .stabilize((deleteUserRequest, deleteUserResponse, proxyInvocation, model, context) -> pollStabilization(
+                () -> isAclDeleted(proxyInvocation, model, context, logger)))
             .done((deleteUserRequest, deleteUserResponse, proxyInvocation, model, context) -> ProgressEvent
                 .defaultSuccessHandler(null));
     }
@@ -78,10 +87,12 @@ public class DeleteHandler extends BaseHandlerStd {
     protected boolean isAclDeleted(
         final ProxyClient<MemoryDbClient> proxyClient,
         final ResourceModel model,
+        final CallbackContext callbackContext,
         Logger logger) {
         try {
-            isAclStabilized(proxyClient, model, logger);
+            isAclStabilized(proxyClient, model, callbackContext, logger);
         } catch (CfnNotFoundException e) {
+            callbackContext.getStabilizationTimeline().record(DELETED_STATUS);
             return true;
         }
         return false;
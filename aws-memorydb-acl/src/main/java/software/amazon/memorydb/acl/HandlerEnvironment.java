@@ -0,0 +1,82 @@
+package software.amazon.memorydb.acl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import software.amazon.awssdk.services.memorydb.MemoryDbAsyncClient;
+
+/**
+ * What the handlers take from the container they run in, kept per handler instead of in mutable statics.
+ *
+ * Handlers use {@link #DEFAULT}. Tests and the local workflow harness build their own from it and pass it to the
+ * package-private handler constructors, e.g. to wait on a virtual clock.
+ */
+final class HandlerEnvironment {
+
+  static final String CONCURRENT_READ_VARIABLE = "MEMORYDB_CONCURRENT_READ";
+
+  static final HandlerEnvironment DEFAULT = new HandlerEnvironment(
+      System::currentTimeMillis,
+      HandlerEnvironment::sleep,
+      Boolean.parseBoolean(System.getenv(CONCURRENT_READ_VARIABLE)),
+      ClientBuilder::getAsyncClient);
+
+  // Times the deadline of each handler invocation
+  private final LongSupplier clock;
+  // Waits between throttling retries and between stabilization polls
+  private final LongConsumer sleeper;
+  // Reads describe the resource and list its tags concurrently through the async client
+  private final boolean concurrentRead;
+  private final Supplier<MemoryDbAsyncClient> asyncClient;
+
+  private HandlerEnvironment(
+      final LongSupplier clock,
+      final LongConsumer sleeper,
+      final boolean concurrentRead,
+      final Supplier<MemoryDbAsyncClient> asyncClient) {
+    this.clock = clock;
+    this.sleeper = sleeper;
+    this.concurrentRead = concurrentRead;
+    this.asyncClient = asyncClient;
+  }
+
+  HandlerEnvironment withClock(final LongSupplier clock) {
+    return new HandlerEnvironment(clock, sleeper, concurrentRead, asyncClient);
+  }
+
+  HandlerEnvironment withSleeper(final LongConsumer sleeper) {
+    return new HandlerEnvironment(clock, sleeper, concurrentRead, asyncClient);
+  }
+
+  /**
+   * Reads concurrently through the given async client.
+   */
+  HandlerEnvironment withConcurrentRead(final Supplier<MemoryDbAsyncClient> asyncClient) {
+    return new HandlerEnvironment(clock, sleeper, true, asyncClient);
+  }
+
+  LongSupplier getClock() {
+    return clock;
+  }
+
+  LongConsumer getSleeper() {
+    return sleeper;
+  }
+
+  boolean isConcurrentRead() {
+    return concurrentRead;
+  }
+
+  Supplier<MemoryDbAsyncClient> getAsyncClient() {
+    return asyncClient;
+  }
+
+  private static void sleep(final long millis) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
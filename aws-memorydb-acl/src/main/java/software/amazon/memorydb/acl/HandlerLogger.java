@@ -0,0 +1,113 @@
+package software.amazon.memorydb.acl;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Level-gated logging over the handler {@link Logger}.
+ *
+ * Messages are passed as suppliers, so nothing is formatted or rendered unless the level is enabled. The level comes
+ * from the LOG_LEVEL environment variable and defaults to INFO, which keeps the per-poll and model dumps of the DEBUG
+ * level out of the production logs.
+ */
+final class HandlerLogger {
+
+  enum Level {
+    DEBUG, INFO, WARN, ERROR;
+
+    static Level of(final String name) {
+      if (name != null) {
+        for (final Level level : values()) {
+          if (level.name().equals(name.trim().toUpperCase(Locale.ROOT))) {
+            return level;
+          }
+        }
+      }
+      return INFO;
+    }
+  }
+
+  static final String LEVEL_VARIABLE = "LOG_LEVEL";
+  // Longest rendering of a model, longer ones are cut
+  static final int MAX_RENDERED_LENGTH = 2048;
+  // Stack frames logged with a failure unless DEBUG is enabled, which logs all of them
+  static final int MAX_STACK_FRAMES = 10;
+
+  static final Level LEVEL = Level.of(System.getenv(LEVEL_VARIABLE));
+
+  private HandlerLogger() {
+  }
+
+  static boolean isEnabled(final Level level) {
+    return isEnabled(LEVEL, level);
+  }
+
+  static boolean isEnabled(final Level threshold, final Level level) {
+    return level.compareTo(threshold) >= 0;
+  }
+
+  static void debug(final Logger logger, final Supplier<String> message) {
+    log(logger, Level.DEBUG, message);
+  }
+
+  static void info(final Logger logger, final Supplier<String> message) {
+    log(logger, Level.INFO, message);
+  }
+
+  static void warn(final Logger logger, final Supplier<String> message) {
+    log(logger, Level.WARN, message);
+  }
+
+  static void log(final Logger logger, final Level level, final Supplier<String> message) {
+    log(LEVEL, logger, level, message);
+  }
+
+  /**
+   * Logs the message if its level is enabled at the given threshold instead of the configured {@link #LEVEL}.
+   */
+  static void log(final Level threshold, final Logger logger, final Level level, final Supplier<String> message) {
+    if (logger != null && isEnabled(threshold, level)) {
+      logger.log(message.get());
+    }
+  }
+
+  /**
+   * Logs a failure with its stack trace, the first {@link #MAX_STACK_FRAMES} frames only unless DEBUG is
+   * enabled.
+   */
+  static void error(final Logger logger, final String message, final Throwable e) {
+    error(LEVEL, logger, message, e);
+  }
+
+  static void error(final Level threshold, final Logger logger, final String message, final Throwable e) {
+    log(threshold, logger, Level.ERROR, () -> {
+      final StackTraceElement[] frames = e.getStackTrace();
+      final int count = isEnabled(threshold, Level.DEBUG) ? frames.length : Math.min(frames.length, MAX_STACK_FRAMES);
+      final StringBuilder line = new StringBuilder(message.length() + 64 + count * 96)
+          .append(message).append(e);
+      for (int i = 0; i < count; i++) {
+        line.append('\n').append(frames[i]);
+      }
+      if (count < frames.length) {
+        line.append("\n... ").append(frames.length - count).append(" more");
+      }
+      return line.toString();
+    });
+  }
+
+  /**
+   * Renders a model for the logs, cut at {@link #MAX_RENDERED_LENGTH} characters.
+   */
+  static String render(final Object model) {
+    return bound(String.valueOf(model));
+  }
+
+  static String bound(final String rendered) {
+    if (rendered.length() <= MAX_RENDERED_LENGTH) {
+      return rendered;
+    }
+    return rendered.substring(0, MAX_RENDERED_LENGTH) + "...(" + (rendered.length() - MAX_RENDERED_LENGTH) + " more characters)";
+  }
+}
@@ -20,7 +20,7 @@ public class ListHandler extends BaseHandlerStd {
             final ProxyClient<MemoryDbClient> proxyClient, Logger logger) {
         final DescribeAcLsRequest awsRequest = Translator.translateToListRequest(request.getNextToken());
 
-        final DescribeAcLsResponse describeAclResponse = proxy.injectCredentialsAndInvokeV2(awsRequest,
+        final DescribeAcLsResponse describeAclResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest,
                 proxyClient.client()::describeACLs);
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -0,0 +1,148 @@
+package software.amazon.memorydb.acl;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Finds the properties of the resource that differ between two models, as described by the resource schema.
+ *
+ * Read-only properties are reported by the service and create-only ones replace the resource, so neither makes an
+ * update. Arrays with unique items are compared as sets, so that reordering the users of an acl is not a change, and
+ * absent, null and empty values are the same.
+ */
+final class ModelDiff {
+
+  static final String SCHEMA = "aws-memorydb-acl.json";
+  private static final String PROPERTIES_POINTER = "/properties/";
+  private static final String DEFINITIONS_POINTER = "#/definitions/";
+
+  // Models are read through their fields, which carry the property names of the schema
+  private static final ObjectMapper MAPPER = new ObjectMapper()
+      .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+      .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+
+  private final JsonNode schema;
+  private final Set<String> ignoredProperties = new HashSet<>();
+
+  ModelDiff(final JsonNode schema, final String... separatelyUpdatedProperties) {
+    this.schema = schema;
+    ignoredProperties.addAll(propertyNames(schema.path("readOnlyProperties")));
+    ignoredProperties.addAll(propertyNames(schema.path("createOnlyProperties")));
+    ignoredProperties.addAll(Arrays.asList(separatelyUpdatedProperties));
+  }
+
+  /**
+   * Loads the diff of the resource schema, leaving out the properties its caller updates on its own.
+   */
+  static ModelDiff fromSchema(final String... separatelyUpdatedProperties) {
+    try (InputStream in = ModelDiff.class.getClassLoader().getResourceAsStream(SCHEMA)) {
+      if (in == null) {
+        throw new IllegalStateException("Resource schema " + SCHEMA + " is not on the classpath");
+      }
+      return new ModelDiff(MAPPER.readTree(in), separatelyUpdatedProperties);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  boolean hasChanges(final ResourceModel desired, final ResourceModel previous) {
+    return !changedProperties(desired, previous).isEmpty();
+  }
+
+  /**
+   * Names the updatable properties that differ, all of the set ones when there is no previous model.
+   */
+  Set<String> changedProperties(final ResourceModel desired, final ResourceModel previous) {
+    final JsonNode desiredNode = MAPPER.valueToTree(desired);
+    final JsonNode previousNode = previous == null ? MAPPER.createObjectNode() : MAPPER.valueToTree(previous);
+    final JsonNode properties = schema.path("properties");
+
+    final Set<String> changed = new TreeSet<>();
+    final Iterator<String> names = properties.fieldNames();
+    while (names.hasNext()) {
+      final String name = names.next();
+      if (ignoredProperties.contains(name)) {
+        continue;
+      }
+      final JsonNode definition = properties.get(name);
+      final Object desiredValue = normalize(desiredNode.get(name), definition);
+      final Object previousValue = normalize(previousNode.get(name), definition);
+      if (desiredValue == null ? previousValue != null : !desiredValue.equals(previousValue)) {
+        changed.add(name);
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Turns a value into plain collections that compare the way the schema defines it, or null when it is not set.
+   */
+  private Object normalize(final JsonNode value, final JsonNode definition) {
+    if (value == null || value.isNull()) {
+      return null;
+    }
+    final JsonNode resolved = resolve(definition);
+    if (value.isArray()) {
+      final Collection<Object> items = resolved.path("uniqueItems").asBoolean(false)
+          ? new HashSet<>() : new ArrayList<>();
+      for (final JsonNode item : value) {
+        final Object normalized = normalize(item, resolved.path("items"));
+        if (normalized != null) {
+          items.add(normalized);
+        }
+      }
+      return items.isEmpty() ? null : items;
+    }
+    if (value.isObject()) {
+      final Map<String, Object> fields = new HashMap<>();
+      final Iterator<Map.Entry<String, JsonNode>> entries = value.fields();
+      while (entries.hasNext()) {
+        final Map.Entry<String, JsonNode> entry = entries.next();
+        final Object normalized = normalize(entry.getValue(), resolved.path("properties").path(entry.getKey()));
+        if (normalized != null) {
+          fields.put(entry.getKey(), normalized);
+        }
+      }
+      return fields.isEmpty() ? null : fields;
+    }
+    return value;
+  }
+
+  private JsonNode resolve(final JsonNode definition) {
+    final String ref = definition.path("$ref").asText("");
+    if (ref.startsWith(DEFINITIONS_POINTER)) {
+      return schema.path("definitions").path(ref.substring(DEFINITIONS_POINTER.length()));
+    }
+    return definition;
+  }
+
+  private static List<String> propertyNames(final JsonNode pointers) {
+    if (!pointers.isArray()) {
+      return Collections.emptyList();
+    }
+    final List<String> names = new ArrayList<>();
+    for (final JsonNode pointer : pointers) {
+      final String path = pointer.asText();
+      if (path.startsWith(PROPERTIES_POINTER) && path.indexOf('/', PROPERTIES_POINTER.length()) < 0) {
+        names.add(path.substring(PROPERTIES_POINTER.length()));
+      }
+    }
+    return names;
+  }
+}
@@ -0,0 +1,54 @@
+package software.amazon.memorydb.acl;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
+
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+/**
+ * Polls a stabilization check in-process with short, growing intervals, until the deadline of the handler invocation.
+ *
+ * ACL transitions usually complete within seconds, so most stabilizations end here instead of waiting for the
+ * stabilization delay of the proxy. Once the deadline is reached, or a check was throttled, the check runs once per
+ * call and the proxy falls back to its own delay, returning IN_PROGRESS with a callback when the invocation runs out
+ * of time. A throttled check counts as not stabilized yet.
+ */
+final class StabilizationPoller {
+
+  static final Duration INITIAL_INTERVAL = Duration.ofMillis(250);
+  static final double MULTIPLIER = 1.5;
+  static final Duration MAX_INTERVAL = Duration.ofSeconds(5);
+
+  private final LongConsumer sleeper;
+  private final InvocationDeadline deadline;
+  private boolean throttled;
+
+  StabilizationPoller(final LongConsumer sleeper, final InvocationDeadline deadline) {
+    this.sleeper = sleeper;
+    this.deadline = deadline;
+  }
+
+  /**
+   * Runs the check until it passes or the next interval would end past the deadline of the invocation.
+   */
+  boolean poll(final BooleanSupplier check) {
+    long interval = INITIAL_INTERVAL.toMillis();
+    while (true) {
+      try {
+        if (check.getAsBoolean()) {
+          return true;
+        }
+      } catch (final CfnThrottlingException e) {
+        // the check ran out of throttling retries, polling more would only be throttled again
+        throttled = true;
+        return false;
+      }
+      if (throttled || !deadline.allows(interval) || Thread.currentThread().isInterrupted()) {
+        return false;
+      }
+      sleeper.accept(interval);
+      interval = Math.min((long) (interval * MULTIPLIER), MAX_INTERVAL.toMillis());
+    }
+  }
+}
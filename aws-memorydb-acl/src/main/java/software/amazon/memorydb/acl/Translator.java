@@ -13,6 +13,7 @@ import software.amazon.awssdk.services.memorydb.model.CreateAclRequest;
 import software.amazon.awssdk.services.memorydb.model.DeleteAclRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeAcLsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeUsersRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.Tag;
 import software.amazon.awssdk.services.memorydb.model.TagResourceRequest;
@@ -98,6 +99,18 @@ public class Translator {
         .build();
   }
 
+  /**
+   * Request to scan the users of the account, a page at a time
+   * @param nextToken token of the page to describe, null for the first one
+   * @return awsRequest the aws service request to describe users
+   */
+  static DescribeUsersRequest translateToDescribeUsersRequest(final String nextToken) {
+    return DescribeUsersRequest.builder()
+        .maxResults(MAX_RESULTS)
+        .nextToken(nextToken)
+        .build();
+  }
+
   /**
    * Translates resource objects from sdk into a resource model (primary identifier only)
    * @param response the aws service describe resource response
@@ -128,7 +141,11 @@ public class Translator {
   }
 
   static ListTagsRequest translateToListTagsRequest(final ResourceModel model) {
-    return ListTagsRequest.builder().resourceArn(model.getArn()).build();
+    return translateToListTagsRequest(model.getArn());
+  }
+
+  static ListTagsRequest translateToListTagsRequest(final String arn) {
+    return ListTagsRequest.builder().resourceArn(arn).build();
   }
 
   static Set<software.amazon.memorydb.acl.Tag> translateTags(final Collection<Tag> tags) {
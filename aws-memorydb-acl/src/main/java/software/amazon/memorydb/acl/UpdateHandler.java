@@ -4,10 +4,12 @@ import com.amazonaws.util.CollectionUtils;
 import com.amazonaws.util.StringUtils;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
@@ -15,10 +17,13 @@ import software.amazon.awssdk.services.memorydb.model.ACL;
 import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.DescribeAcLsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeUsersResponse;
+import software.amazon.awssdk.services.memorydb.model.InvalidArnException;
 import software.amazon.awssdk.services.memorydb.model.UpdateAclRequest;
 import software.amazon.awssdk.services.memorydb.model.UpdateAclRequest.Builder;
 import software.amazon.awssdk.services.memorydb.model.UpdateAclResponse;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -27,8 +32,18 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class UpdateHandler extends BaseHandlerStd {
+    // Tags are updated on their own, after the acl
+    private static final ModelDiff CORE_MODEL_DIFF = ModelDiff.fromSchema("Tags");
+
     private Logger logger;
 
+    public UpdateHandler() {
+    }
+
+    UpdateHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -42,7 +57,7 @@ public class UpdateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress -> updateACL(proxy, progress,request, proxyClient))
             .then(progress -> updateTags(proxy, progress, request, proxyClient))
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> readResource(proxy, progress, request, proxyClient, logger));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateACL(
@@ -66,20 +81,23 @@ public class UpdateHandler extends BaseHandlerStd {
 
                             ACL acl = describeResponse.acLs().get(0);
 
-                            //Create list of resources to add and remove
-                            List<String> userIdsToAdd = progress.getResourceModel().getUserNames().stream()
-                                .distinct()
-                                .filter(((Predicate<String>) acl.userNames()::contains).negate())
-                                .collect(Collectors.toList());
-
-                            this.logger.log(acl.toString());
+                            HandlerLogger.debug(this.logger, () -> HandlerLogger.render(acl));
 
-                            List<String> userIdsToRemove = acl.userNames().stream()
-                                .distinct()
-                                .filter(
-                                    ((Predicate<String>) progress.getResourceModel().getUserNames()::contains).negate())
+                            //Create list of resources to add and remove, looking users up in hash sets
+                            final Set<String> desiredUserNames = new LinkedHashSet<>(
+                                Optional.ofNullable(progress.getResourceModel().getUserNames())
+                                    .orElse(Collections.emptyList()));
+                            final Set<String> currentUserNames = new LinkedHashSet<>(acl.userNames());
+                            final List<String> userIdsToAdd = desiredUserNames.stream()
+                                .filter(userName -> !currentUserNames.contains(userName))
+                                .collect(Collectors.toList());
+                            final List<String> userIdsToRemove = currentUserNames.stream()
+                                .filter(userName -> !desiredUserNames.contains(userName))
                                 .collect(Collectors.toList());
 
+                            //Fail before updating anything when a user to add does not exist
+                            validateUsersExist(proxyInvocation, userIdsToAdd);
+
                             Builder builder = UpdateAclRequest.builder();
                             builder.aclName(acl.name());
                             builder.userNamesToAdd(userIdsToAdd.isEmpty() ? null : userIdsToAdd);
@@ -100,8 +118,8 @@ public class UpdateHandler extends BaseHandlerStd {
                     }
                 ))
                 .stabilize(
-                    (updateUserRequest, updateUserResponse, proxyInvocation, model, context) -> isAclStabilized(
-                        proxyInvocation, model, logger))
+                    (updateUserRequest, updateUserResponse, proxyInvocation, model, context) -> pollStabilization(
+                        () -> isAclStabilized(proxyInvocation, model, context, logger)))
                 .progress();
         } else {
             return progress;
@@ -114,11 +132,11 @@ public class UpdateHandler extends BaseHandlerStd {
         ResourceHandlerRequest<ResourceModel> request,
         ProxyClient<MemoryDbClient> proxyClient
     ) {
-        if (!request.getPreviousResourceTags().equals(request.getDesiredResourceTags())) {
+        if (isTagUpdateNeeded(request)) {
             return progress
                 .then(o ->
                     handleExceptions(() -> {
-                        handleTagging(proxy, proxyClient,  request.getDesiredResourceTags(), progress.getResourceModel());
+                        handleTagging(proxy, proxyClient, request, progress.getResourceModel());
                         return ProgressEvent.progress(o.getResourceModel(), o.getCallbackContext());
                     })
                 );
@@ -128,18 +146,30 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     private void handleTagging(AmazonWebServicesClientProxy proxy, ProxyClient<MemoryDbClient> client,
-        final Map<String, String> tags, final ResourceModel model) {
+        final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model) {
+        final Map<String, String> tags = request.getDesiredResourceTags();
         final Set<Tag> newTags = tags == null ? Collections.emptySet() : new HashSet<>(Translator.translateTags(tags));
         final Set<Tag> existingTags = new HashSet<>();
 
         //Fix for unpopulated arn on resource model
-        setModelArn(proxy, client, model);
+        final boolean synthesizedArn = synthesizeModelArn(request, model);
+        if (!synthesizedArn) {
+            setModelArn(proxy, client, model);
+        }
         if (!StringUtils.isNullOrEmpty(model.getArn())) {
-            existingTags.addAll(
-                Translator.translateTags(
-                    proxy.injectCredentialsAndInvokeV2(
-                        Translator.translateToListTagsRequest(model),
-                        client.client()::listTags).tagList()));
+            try {
+                existingTags.addAll(listTags(proxy, client, model));
+            } catch (final InvalidArnException | AclNotFoundException e) {
+                if (!synthesizedArn) {
+                    throw e;
+                }
+                // The synthesized arn was rejected, recover the actual one
+                model.setArn(null);
+                setModelArn(proxy, client, model);
+                if (!StringUtils.isNullOrEmpty(model.getArn())) {
+                    existingTags.addAll(listTags(proxy, client, model));
+                }
+            }
         }
 
         final List<Tag> tagsToRemove = existingTags.stream()
@@ -149,33 +179,99 @@ public class UpdateHandler extends BaseHandlerStd {
             .filter(tag -> !existingTags.contains(tag))
             .collect(Collectors.toList());
 
+        // Untag and tag responses return the resulting tag set, carry it forward instead of listing the tags again
+        Set<Tag> resultingTags = existingTags;
         if (!CollectionUtils.isNullOrEmpty(tagsToRemove)) {
-            proxy.injectCredentialsAndInvokeV2(
-                Translator.translateToUntagResourceRequest(model.getArn(), tagsToRemove),
-                client.client()::untagResource);
+            resultingTags = Translator.translateTags(
+                client.injectCredentialsAndInvokeV2(
+                    Translator.translateToUntagResourceRequest(model.getArn(), tagsToRemove),
+                    client.client()::untagResource).tagList());
         }
         if (!CollectionUtils.isNullOrEmpty(tagsToAdd)) {
-            proxy.injectCredentialsAndInvokeV2(
-                Translator.translateToTagResourceRequest(model.getArn(), tagsToAdd),
-                client.client()::tagResource);
+            resultingTags = Translator.translateTags(
+                client.injectCredentialsAndInvokeV2(
+                    Translator.translateToTagResourceRequest(model.getArn(), tagsToAdd),
+                    client.client()::tagResource).tagList());
+        }
+        model.setTags(resultingTags);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> readResource(
+        AmazonWebServicesClientProxy proxy,
+        ProgressEvent<ResourceModel, CallbackContext> progress,
+        ResourceHandlerRequest<ResourceModel> request,
+        ProxyClient<MemoryDbClient> proxyClient,
+        Logger logger
+    ) {
+        final ReadHandler readHandler = new ReadHandler(this);
+        if (!isTagUpdateNeeded(request)) {
+            return readHandler.handleRequest(proxy, request, progress.getCallbackContext(), proxyClient, logger);
+        }
+
+        //Tags were set by handleTagging, only the ACL itself needs to be read back
+        final Set<Tag> tags = progress.getResourceModel().getTags();
+        return readHandler.describeACL(proxy, progress, proxyClient)
+            .then(described -> {
+                described.getResourceModel().setTags(tags);
+                return ProgressEvent.defaultSuccessHandler(described.getResourceModel());
+            });
+    }
+
+    /**
+     * Looks the users up with a single scan of the users of the account, which stops once all of them are found.
+     */
+    private void validateUsersExist(final ProxyClient<MemoryDbClient> proxyClient, final List<String> userNames) {
+        if (userNames.isEmpty()) {
+            return;
+        }
+        final Set<String> missingUserNames = new HashSet<>(userNames);
+        String nextToken = null;
+        do {
+            final DescribeUsersResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                Translator.translateToDescribeUsersRequest(nextToken), proxyClient.client()::describeUsers);
+            response.users().forEach(user -> missingUserNames.remove(user.name()));
+            nextToken = response.nextToken();
+        } while (!missingUserNames.isEmpty() && !StringUtils.isNullOrEmpty(nextToken));
+
+        if (!missingUserNames.isEmpty()) {
+            throw new CfnInvalidRequestException("Users not found: " + new TreeSet<>(missingUserNames));
         }
     }
 
+    private boolean isTagUpdateNeeded(final ResourceHandlerRequest<ResourceModel> request) {
+        return !request.getPreviousResourceTags().equals(request.getDesiredResourceTags());
+    }
+
     private boolean hasChangeOnCoreModel(final ResourceModel r1, final ResourceModel r2){
-        return !getRequestResource(r1).equals(getRequestResource(r2));
+        final Set<String> changedProperties = CORE_MODEL_DIFF.changedProperties(r1, r2);
+        HandlerLogger.debug(logger, () -> "Changed properties: " + changedProperties);
+        return !changedProperties.isEmpty();
+    }
+
+    private Set<Tag> listTags(AmazonWebServicesClientProxy proxy, ProxyClient<MemoryDbClient> client,
+        final ResourceModel model) {
+        return Translator.translateTags(
+            client.injectCredentialsAndInvokeV2(
+                Translator.translateToListTagsRequest(model),
+                client.client()::listTags).tagList());
     }
 
-    private ResourceModel getRequestResource(final ResourceModel resourceModel) {
-        return ResourceModel.builder()
-            .aCLName(resourceModel.getACLName())
-            .userNames(resourceModel.getUserNames())
-            .build();
+    private boolean synthesizeModelArn(final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model) {
+        if (!StringUtils.isNullOrEmpty(model.getArn())) {
+            return false;
+        }
+        final String arn = ArnBuilder.build(request, "acl", model.getACLName());
+        if (arn == null) {
+            return false;
+        }
+        model.setArn(arn);
+        return true;
     }
 
     private void setModelArn(AmazonWebServicesClientProxy proxy, ProxyClient<MemoryDbClient> client,
         final ResourceModel model) {
         if (StringUtils.isNullOrEmpty(model.getArn())) {
-            DescribeAcLsResponse response = proxy.injectCredentialsAndInvokeV2(
+            DescribeAcLsResponse response = client.injectCredentialsAndInvokeV2(
                 Translator.translateToReadRequest(model),
                 client.client()::describeACLs);
             if (response.acLs().size() > 0) {
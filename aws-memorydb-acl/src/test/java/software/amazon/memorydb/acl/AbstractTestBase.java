@@ -111,7 +111,7 @@ public class AbstractTestBase {
       CompletableFuture<ResponseT>
       injectCredentialsAndInvokeV2Async(RequestT request,
           Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
-        throw new UnsupportedOperationException();
+        return proxy.injectCredentialsAndInvokeV2Async(request, requestFunction);
       }
 
       @Override
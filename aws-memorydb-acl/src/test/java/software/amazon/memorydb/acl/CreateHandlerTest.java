@@ -27,6 +27,7 @@ import software.amazon.awssdk.services.memorydb.model.DescribeAcLsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -105,6 +106,33 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(sdkClient, atLeast(1)).serviceName();
     }
 
+    @Test
+    public void handleRequest_StabilizationRetriesThrottledDescribe() {
+        when(sdkClient.createACL(any(CreateAclRequest.class))).thenReturn(CreateAclResponse.builder().build());
+        when(sdkClient.listTags(any(ListTagsRequest.class)))
+            .thenReturn(ListTagsResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build());
+        when(sdkClient.describeACLs(any(DescribeAcLsRequest.class)))
+            .thenThrow(MemoryDbException.builder().statusCode(429).message("Rate exceeded").build())
+            .thenReturn(DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE)).build());
+
+        final CreateHandler handler = new CreateHandler(HandlerEnvironment.DEFAULT.withSleeper(millis -> { }));
+
+        final ResourceModel model = buildDefaultResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getStatus()).isEqualTo(ACTIVE);
+
+        verify(sdkClient, atLeast(2)).describeACLs(any(DescribeAcLsRequest.class));
+        verify(sdkClient, atLeast(1)).serviceName();
+    }
+
     @Test
     public void handleRequest_Failed() {
         doThrow(AclAlreadyExistsException.class)
@@ -0,0 +1,72 @@
+package software.amazon.memorydb.acl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+public class StabilizationPollerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+    private final StabilizationPoller poller = new StabilizationPoller(millis -> {
+        sleeps.add(millis);
+        clock.addAndGet(millis);
+    }, new InvocationDeadline(clock::get, Duration.ofSeconds(10)));
+
+    @Test
+    public void poll_ReturnsAsSoonAsTheCheckPasses() {
+        final AtomicInteger checks = new AtomicInteger();
+
+        assertThat(poller.poll(() -> checks.incrementAndGet() == 4)).isTrue();
+
+        assertThat(checks.get()).isEqualTo(4);
+        // intervals grow from the initial one
+        assertThat(sleeps).containsExactly(250L, 375L, 562L);
+    }
+
+    @Test
+    public void poll_StopsAtTheDeadlineAndThenChecksOncePerCall() {
+        final AtomicInteger checks = new AtomicInteger();
+
+        assertThat(poller.poll(() -> {
+            checks.incrementAndGet();
+            return false;
+        })).isFalse();
+
+        assertThat(clock.get()).isLessThanOrEqualTo(Duration.ofSeconds(10).toMillis());
+        assertThat(sleeps).allMatch(millis -> millis <= StabilizationPoller.MAX_INTERVAL.toMillis());
+        assertThat(checks.get()).isEqualTo(sleeps.size() + 1);
+
+        // once the deadline is reached, the check runs once and the wait is left to the proxy
+        clock.set(Duration.ofSeconds(10).toMillis());
+        final int checksBefore = checks.get();
+        final int sleepsBefore = sleeps.size();
+        assertThat(poller.poll(() -> checks.incrementAndGet() < 0)).isFalse();
+        assertThat(checks.get()).isEqualTo(checksBefore + 1);
+        assertThat(sleeps).hasSize(sleepsBefore);
+    }
+
+    @Test
+    public void poll_TreatsThrottledCheckAsNotStabilizedAndStopsPolling() {
+        final AtomicInteger checks = new AtomicInteger();
+
+        assertThat(poller.poll(() -> {
+            checks.incrementAndGet();
+            throw new CfnThrottlingException(new RuntimeException("Rate exceeded"));
+        })).isFalse();
+        assertThat(sleeps).isEmpty();
+
+        // the deadline is still far, but later polls check once and leave the wait to the proxy
+        assertThat(poller.poll(() -> checks.incrementAndGet() < 0)).isFalse();
+        assertThat(checks.get()).isEqualTo(2);
+        assertThat(sleeps).isEmpty();
+    }
+}
@@ -12,6 +12,9 @@ import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.DescribeAcLsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeUsersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeUsersResponse;
+import software.amazon.awssdk.services.memorydb.model.InvalidArnException;
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.awssdk.services.memorydb.model.TagResourceRequest;
@@ -20,6 +23,8 @@ import software.amazon.awssdk.services.memorydb.model.UntagResourceRequest;
 import software.amazon.awssdk.services.memorydb.model.UntagResourceResponse;
 import software.amazon.awssdk.services.memorydb.model.UpdateAclRequest;
 import software.amazon.awssdk.services.memorydb.model.UpdateAclResponse;
+import software.amazon.awssdk.services.memorydb.model.User;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -38,6 +43,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -95,7 +102,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
             DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, true, ImmutableList.of("test"))).build();
         AtomicInteger attempt = new AtomicInteger(2);
 
-        when(sdkClient.tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
+        when(sdkClient.tagResource(any(TagResourceRequest.class))).thenReturn(
+            TagResourceResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build());
         when(sdkClient.untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
         when(sdkClient.describeACLs(any(DescribeAcLsRequest.class))).then((m) -> {
             switch (attempt.getAndDecrement()) {
@@ -185,6 +193,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         final UpdateAclResponse updateAclResponse = UpdateAclResponse.builder().build();
         when(sdkClient.updateACL(any(UpdateAclRequest.class))).thenReturn(updateAclResponse);
+        when(sdkClient.describeUsers(any(DescribeUsersRequest.class))).thenReturn(describeUsers(target, null));
 
         final DescribeAcLsResponse describeAclBefore =
             DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, false, current)).build();
@@ -239,6 +248,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .filter(((Predicate<String>) target::contains).negate())
             .collect(Collectors.toList());
 
+        verify(sdkClient).describeUsers(any(DescribeUsersRequest.class));
         verify(sdkClient).updateACL(updateAclCapture.capture());
         UpdateAclRequest convertedRequest = updateAclCapture.getValue();
         assertThat(userIdsToAdd.equals(convertedRequest.userNamesToAdd()));
@@ -273,7 +283,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
             DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, true, ImmutableList.of("test"))).build();
         AtomicInteger attempt = new AtomicInteger(2);
 
-        when(sdkClient.tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
+        when(sdkClient.tagResource(any(TagResourceRequest.class))).thenReturn(
+            TagResourceResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build());
         when(sdkClient.untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
         when(sdkClient.describeACLs(any(DescribeAcLsRequest.class))).then((m) -> {
             switch (attempt.getAndDecrement()) {
@@ -311,4 +322,168 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(modelDesired.getArn()).isNotNull();
     }
 
+    @Test
+    public void handleRequest_TagUpdateSynthesizedArn() {
+        final String arn = "arn:aws:memorydb:us-east-1:123456789012:acl/" + ACL_NAME;
+        final ArgumentCaptor<ListTagsRequest> listTagsCapture = ArgumentCaptor.forClass(ListTagsRequest.class);
+        when(sdkClient.listTags(listTagsCapture.capture()))
+            .thenReturn(ListTagsResponse.builder().tagList(
+                software.amazon.awssdk.services.memorydb.model.Tag.builder().key("test").value("test").build()).build());
+        when(sdkClient.tagResource(any(TagResourceRequest.class))).thenReturn(
+            TagResourceResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build());
+        when(sdkClient.untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
+        when(sdkClient.describeACLs(any(DescribeAcLsRequest.class)))
+            .thenReturn(DescribeAcLsResponse.builder().acLs(buildDefaultAcl()).build());
+
+        final ResourceModel modelDesired = buildDefaultResourceModel();
+        modelDesired.setArn(null);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler()
+            .handleRequest(proxy, buildTagUpdateRequest(modelDesired), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(modelDesired.getArn()).isEqualTo(arn);
+        assertThat(listTagsCapture.getAllValues().get(0).resourceArn()).isEqualTo(arn);
+        // the acl is only described once it is read back, and the tags returned by tagResource are reused
+        assertThat(response.getResourceModel().getTags()).isEqualTo(TAG_SET);
+        verify(sdkClient, times(1)).describeACLs(any(DescribeAcLsRequest.class));
+        verify(sdkClient, times(1)).listTags(any(ListTagsRequest.class));
+        verify(sdkClient).untagResource(any(UntagResourceRequest.class));
+        verify(sdkClient).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_TagUpdateSynthesizedArnRejected() {
+        final ArgumentCaptor<ListTagsRequest> listTagsCapture = ArgumentCaptor.forClass(ListTagsRequest.class);
+        when(sdkClient.listTags(listTagsCapture.capture()))
+            .thenThrow(InvalidArnException.builder().build())
+            .thenReturn(ListTagsResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build());
+        when(sdkClient.describeACLs(any(DescribeAcLsRequest.class)))
+            .thenReturn(DescribeAcLsResponse.builder().acLs(buildDefaultAcl()).build());
+
+        final ResourceModel modelDesired = buildDefaultResourceModel();
+        modelDesired.setArn(null);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler()
+            .handleRequest(proxy, buildTagUpdateRequest(modelDesired), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(modelDesired.getArn()).isEqualTo(ARN);
+        assertThat(listTagsCapture.getAllValues().get(1).resourceArn()).isEqualTo(ARN);
+        assertThat(response.getResourceModel().getTags()).isEqualTo(TAG_SET);
+        verify(sdkClient, times(2)).describeACLs(any(DescribeAcLsRequest.class));
+        verify(sdkClient, times(2)).listTags(any(ListTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UsersToAddScannedAcrossPages() {
+        when(sdkClient.describeACLs(any(DescribeAcLsRequest.class)))
+            .thenReturn(DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, false, ImmutableList.of("u1"))).build())
+            .thenReturn(DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, false, ImmutableList.of("u2", "u3"))).build());
+        final ArgumentCaptor<DescribeUsersRequest> describeUsersCapture = ArgumentCaptor.forClass(DescribeUsersRequest.class);
+        when(sdkClient.describeUsers(describeUsersCapture.capture()))
+            .thenReturn(describeUsers(ImmutableList.of("u1", "u2"), "page-2"))
+            .thenReturn(describeUsers(ImmutableList.of("u3", "u4"), "page-3"));
+        final ArgumentCaptor<UpdateAclRequest> updateAclCapture = ArgumentCaptor.forClass(UpdateAclRequest.class);
+        when(sdkClient.updateACL(updateAclCapture.capture())).thenReturn(UpdateAclResponse.builder().build());
+        when(sdkClient.listTags(any(ListTagsRequest.class)))
+            .thenReturn(ListTagsResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(buildDefaultResourceModel(ImmutableList.of("u1")))
+            .desiredResourceState(buildDefaultResourceModel(ImmutableList.of("u2", "u3")))
+            .previousResourceTags(Translator.translateTags(TAG_SET))
+            .desiredResourceTags(Translator.translateTags(TAG_SET))
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler()
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // the scan stops at the page where the last user to add is found
+        assertThat(describeUsersCapture.getAllValues()).extracting(DescribeUsersRequest::nextToken)
+            .containsExactly(null, "page-2");
+        assertThat(updateAclCapture.getValue().userNamesToAdd()).containsExactly("u2", "u3");
+        assertThat(updateAclCapture.getValue().userNamesToRemove()).containsExactly("u1");
+        verify(sdkClient, times(2)).describeUsers(any(DescribeUsersRequest.class));
+        verify(sdkClient).updateACL(any(UpdateAclRequest.class));
+        verify(sdkClient, times(3)).describeACLs(any(DescribeAcLsRequest.class));
+        verify(sdkClient).listTags(any(ListTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_MissingUserFailsBeforeUpdate() {
+        when(sdkClient.describeACLs(any(DescribeAcLsRequest.class)))
+            .thenReturn(DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, false, ImmutableList.of("u1"))).build());
+        when(sdkClient.describeUsers(any(DescribeUsersRequest.class)))
+            .thenReturn(describeUsers(ImmutableList.of("u1", "u2"), "page-2"))
+            .thenReturn(describeUsers(ImmutableList.of("u3"), null));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(buildDefaultResourceModel(ImmutableList.of("u1")))
+            .desiredResourceState(buildDefaultResourceModel(ImmutableList.of("u1", "u2", "missing")))
+            .build();
+
+        try {
+            new UpdateHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            fail("Expected CfnInvalidRequestException");
+        } catch (CfnInvalidRequestException e) {
+            assertThat(e.getMessage()).contains("missing").doesNotContain("u2");
+        }
+        verify(sdkClient).describeACLs(any(DescribeAcLsRequest.class));
+        verify(sdkClient, times(2)).describeUsers(any(DescribeUsersRequest.class));
+        verify(sdkClient, never()).updateACL(any(UpdateAclRequest.class));
+    }
+
+    private DescribeUsersResponse describeUsers(final List<String> userNames, final String nextToken) {
+        return DescribeUsersResponse.builder()
+            .users(userNames.stream()
+                .map(userName -> User.builder().name(userName).status(ACTIVE).build())
+                .collect(Collectors.toList()))
+            .nextToken(nextToken)
+            .build();
+    }
+
+    @Test
+    public void handleRequest_ReorderedUserNamesSkipUpdate() {
+        when(sdkClient.describeACLs(any(DescribeAcLsRequest.class))).thenReturn(
+            DescribeAcLsResponse.builder().acLs(buildDefaultAcl(ACTIVE, false, ImmutableList.of("u1", "u2"))).build());
+        when(sdkClient.listTags(any(ListTagsRequest.class)))
+            .thenReturn(ListTagsResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build());
+
+        final ResourceModel modelPrevious = buildDefaultResourceModel(ImmutableList.of("u1", "u2"));
+        modelPrevious.setStatus(MODIFYING);
+        final ResourceModel modelDesired = buildDefaultResourceModel(ImmutableList.of("u2", "u1", "u2"));
+        modelDesired.setArn(null);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(modelPrevious)
+            .desiredResourceState(modelDesired)
+            .previousResourceTags(Translator.translateTags(TAG_SET))
+            .desiredResourceTags(Translator.translateTags(TAG_SET))
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler()
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getStatus()).isEqualTo(ACTIVE);
+        // only the read back reaches the service
+        verify(sdkClient, never()).updateACL(any(UpdateAclRequest.class));
+        verify(sdkClient, times(1)).describeACLs(any(DescribeAcLsRequest.class));
+        verify(sdkClient, times(1)).listTags(any(ListTagsRequest.class));
+    }
+
+    private ResourceHandlerRequest<ResourceModel> buildTagUpdateRequest(final ResourceModel modelDesired) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .awsPartition("aws")
+            .region("us-east-1")
+            .awsAccountId("123456789012")
+            .previousResourceState(buildDefaultResourceModel())
+            .desiredResourceState(modelDesired)
+            .previousResourceTags(Collections.singletonMap("test", "test"))
+            .desiredResourceTags(Translator.translateTags(TAG_SET))
+            .build();
+    }
+
 }
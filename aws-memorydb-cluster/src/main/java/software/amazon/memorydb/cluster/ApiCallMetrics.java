@@ -0,0 +1,287 @@
+package software.amazon.memorydb.cluster;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Records the MemoryDB calls made during one handler invocation: per API, the number of calls, their latency, the
+ * throttled and failed ones, and the approximate size of requests and responses. Also, per API family, the time calls
+ * waited for a permit of the rate limiter before being sent.
+ *
+ * The summary is logged once at the end of the invocation as a single line in the CloudWatch Embedded Metric Format,
+ * so that the totals become metrics by resource type and handler, and the per API details can be queried with Logs
+ * Insights.
+ */
+final class ApiCallMetrics {
+
+    static final String NAMESPACE = "MemoryDB/ResourceHandlers";
+
+    private final LongSupplier nanoClock;
+    private final Map<String, ApiStats> stats = new TreeMap<>();
+    private final Map<ApiRateLimiter.ApiFamily, Long> permitWaitMillis = new EnumMap<>(ApiRateLimiter.ApiFamily.class);
+
+    ApiCallMetrics(final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    static ApiCallMetrics forInvocation() {
+        return new ApiCallMetrics(System::nanoTime);
+    }
+
+    /**
+     * Returns a proxy client that records every call made through the given one.
+     */
+    ProxyClient<MemoryDbClient> wrap(final ProxyClient<MemoryDbClient> proxyClient) {
+        return new ProxyClient<MemoryDbClient>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+                return record(request, () -> proxyClient.injectCredentialsAndInvokeV2(request, requestFunction));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(final RequestT request,
+                                              final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+                final String api = apiName(request);
+                final long start = nanoClock.getAsLong();
+                return proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction)
+                        .whenComplete((response, error) -> completed(api, start, request, response, error));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+            injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+                // pages are fetched lazily, only the first request is recorded
+                return record(request, () -> proxyClient.injectCredentialsAndInvokeIterableV2(request, requestFunction));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(final RequestT request,
+                                                    final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+                return record(request, () -> proxyClient.injectCredentialsAndInvokeV2InputStream(request, requestFunction));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(final RequestT request,
+                                              final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+                return record(request, () -> proxyClient.injectCredentialsAndInvokeV2Bytes(request, requestFunction));
+            }
+
+            @Override
+            public MemoryDbClient client() {
+                return proxyClient.client();
+            }
+        };
+    }
+
+    private <T> T record(final AwsRequest request, final Supplier<T> call) {
+        final String api = apiName(request);
+        final long start = nanoClock.getAsLong();
+        try {
+            final T response = call.get();
+            completed(api, start, request, response, null);
+            return response;
+        } catch (final RuntimeException e) {
+            completed(api, start, request, null, e);
+            throw e;
+        }
+    }
+
+    private synchronized void completed(final String api,
+                                        final long start,
+                                        final AwsRequest request,
+                                        final Object response,
+                                        final Throwable error) {
+        final ApiStats apiStats = stats.computeIfAbsent(api, name -> new ApiStats());
+        final long latencyMillis = TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - start);
+        apiStats.calls++;
+        apiStats.latencyMillis += latencyMillis;
+        apiStats.maxLatencyMillis = Math.max(apiStats.maxLatencyMillis, latencyMillis);
+        apiStats.requestBytes += payloadSize(request);
+        apiStats.responseBytes += payloadSize(response);
+        if (error != null) {
+            if (ThrottlingRetryPolicy.isThrottling(error)) {
+                apiStats.throttles++;
+            } else {
+                apiStats.errors++;
+            }
+        }
+    }
+
+    /**
+     * Records the time a call waited for a permit of its family, see ApiRateLimiter.
+     */
+    synchronized void recordPermitWait(final ApiRateLimiter.ApiFamily family, final Duration wait) {
+        permitWaitMillis.merge(family, wait.toMillis(), Long::sum);
+    }
+
+    synchronized int getCalls(final String api) {
+        final ApiStats apiStats = stats.get(api);
+        return apiStats != null ? apiStats.calls : 0;
+    }
+
+    synchronized int getThrottles(final String api) {
+        final ApiStats apiStats = stats.get(api);
+        return apiStats != null ? apiStats.throttles : 0;
+    }
+
+    /**
+     * Logs the summary of the invocation, unless no call was made.
+     */
+    void log(final Logger logger, final String handler) {
+        final String summary = toEmf(handler, System.currentTimeMillis());
+        if (summary != null) {
+            logger.log(summary);
+        }
+    }
+
+    /**
+     * Returns the summary as an Embedded Metric Format document on a single line, or null if no call was made.
+     */
+    synchronized String toEmf(final String handler, final long timestampMillis) {
+        if (stats.isEmpty()) {
+            return null;
+        }
+        final ApiStats total = new ApiStats();
+        stats.values().forEach(total::add);
+        final long totalPermitWaitMillis = permitWaitMillis.values().stream().mapToLong(Long::longValue).sum();
+        final StringBuilder emf = new StringBuilder(256 + stats.size() * 128)
+                .append("{\"_aws\":{\"Timestamp\":").append(timestampMillis)
+                .append(",\"CloudWatchMetrics\":[{\"Namespace\":\"").append(NAMESPACE)
+                .append("\",\"Dimensions\":[[\"ResourceType\",\"Handler\"]],\"Metrics\":[")
+                .append("{\"Name\":\"ApiCalls\",\"Unit\":\"Count\"},")
+                .append("{\"Name\":\"ApiLatency\",\"Unit\":\"Milliseconds\"},")
+                .append("{\"Name\":\"ApiThrottles\",\"Unit\":\"Count\"},")
+                .append("{\"Name\":\"ApiErrors\",\"Unit\":\"Count\"},")
+                .append("{\"Name\":\"RequestBytes\",\"Unit\":\"Bytes\"},")
+                .append("{\"Name\":\"ResponseBytes\",\"Unit\":\"Bytes\"},")
+                .append("{\"Name\":\"PermitWait\",\"Unit\":\"Milliseconds\"}]}]}")
+                .append(",\"ResourceType\":\"").append(ResourceModel.TYPE_NAME)
+                .append("\",\"Handler\":\"").append(handler).append('"')
+                .append(",\"ApiCalls\":").append(total.calls)
+                .append(",\"ApiLatency\":").append(total.latencyMillis)
+                .append(",\"ApiThrottles\":").append(total.throttles)
+                .append(",\"ApiErrors\":").append(total.errors)
+                .append(",\"RequestBytes\":").append(total.requestBytes)
+                .append(",\"ResponseBytes\":").append(total.responseBytes)
+                .append(",\"PermitWait\":").append(totalPermitWaitMillis)
+                .append(",\"PermitWaitMs\":{");
+        boolean first = true;
+        for (final Map.Entry<ApiRateLimiter.ApiFamily, Long> entry : permitWaitMillis.entrySet()) {
+            emf.append(first ? "" : ",").append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+            first = false;
+        }
+        emf.append("},\"Apis\":{");
+        first = true;
+        for (final Map.Entry<String, ApiStats> entry : stats.entrySet()) {
+            final ApiStats apiStats = entry.getValue();
+            emf.append(first ? "" : ",").append('"').append(entry.getKey()).append("\":{")
+                    .append("\"calls\":").append(apiStats.calls)
+                    .append(",\"latencyMs\":").append(apiStats.latencyMillis)
+                    .append(",\"maxLatencyMs\":").append(apiStats.maxLatencyMillis)
+                    .append(",\"throttles\":").append(apiStats.throttles)
+                    .append(",\"errors\":").append(apiStats.errors)
+                    .append(",\"requestBytes\":").append(apiStats.requestBytes)
+                    .append(",\"responseBytes\":").append(apiStats.responseBytes)
+                    .append('}');
+            first = false;
+        }
+        return emf.append("}}").toString();
+    }
+
+    /**
+     * e.g. DescribeClusters for a DescribeClustersRequest.
+     */
+    static String apiName(final AwsRequest request) {
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith("Request") ? name.substring(0, name.length() - "Request".length()) : name;
+    }
+
+    /**
+     * Approximates the size of a request or response from its field values, without serializing it.
+     */
+    static long payloadSize(final Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return ((String) value).length();
+        }
+        if (value instanceof SdkPojo) {
+            long size = 0L;
+            for (final SdkField<?> field : ((SdkPojo) value).sdkFields()) {
+                size += payloadSize(field.getValueOrDefault(value));
+            }
+            return size;
+        }
+        if (value instanceof Collection) {
+            long size = 0L;
+            for (final Object element : (Collection<?>) value) {
+                size += payloadSize(element);
+            }
+            return size;
+        }
+        if (value instanceof Map) {
+            long size = 0L;
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += payloadSize(entry.getKey()) + payloadSize(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof SdkBytes) {
+            return ((SdkBytes) value).asByteArrayUnsafe().length;
+        }
+        if (value instanceof ResponseBytes) {
+            return ((ResponseBytes<?>) value).asByteArrayUnsafe().length;
+        }
+        if (value instanceof ResponseInputStream || value instanceof SdkIterable) {
+            // not read here
+            return 0L;
+        }
+        // numbers, booleans, timestamps
+        return String.valueOf(value).length();
+    }
+
+    private static final class ApiStats {
+        private int calls;
+        private int throttles;
+        private int errors;
+        private long latencyMillis;
+        private long maxLatencyMillis;
+        private long requestBytes;
+        private long responseBytes;
+
+        private void add(final ApiStats other) {
+            calls += other.calls;
+            throttles += other.throttles;
+            errors += other.errors;
+            latencyMillis += other.latencyMillis;
+            maxLatencyMillis = Math.max(maxLatencyMillis, other.maxLatencyMillis);
+            requestBytes += other.requestBytes;
+            responseBytes += other.responseBytes;
+        }
+    }
+}
@@ -2,12 +2,14 @@ package software.amazon.memorydb.cluster;
 
 import java.security.InvalidParameterException;
 import java.time.Duration;
-import java.util.Arrays;
+import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
@@ -30,7 +32,9 @@ import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -52,18 +56,56 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final BiFunction<ResourceModel, ProxyClient<MemoryDbClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
     protected static String STABILIZED_STATUS = "available";
 
+    private final HandlerEnvironment environment;
+    // Waits on throttling retries and the rate limiter end before the deadline of the invocation
+    private InvocationDeadline deadline;
+    // Throttling retries are budgeted per handler invocation
+    private ThrottlingRetryPolicy throttlingRetryPolicy;
+
+    protected BaseHandlerStd() {
+        this(HandlerEnvironment.DEFAULT);
+    }
+
+    BaseHandlerStd(final HandlerEnvironment environment) {
+        this.environment = environment;
+        startInvocation();
+    }
+
+    /**
+     * For a handler run nested in another one, e.g. the read that ends a create: it shares the environment and the
+     * deadline and retry budget of the handler invocation it runs in.
+     */
+    BaseHandlerStd(final BaseHandlerStd parent) {
+        this.environment = parent.environment;
+        this.deadline = parent.deadline;
+        this.throttlingRetryPolicy = parent.throttlingRetryPolicy;
+    }
+
+    private void startInvocation() {
+        deadline = InvocationDeadline.forInvocation(environment.getClock());
+        throttlingRetryPolicy = ThrottlingRetryPolicy.forInvocation(environment.getSleeper(), deadline);
+    }
+
+    HandlerEnvironment getEnvironment() {
+        return environment;
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                              final ResourceHandlerRequest<ResourceModel> request,
                                                                              final CallbackContext callbackContext,
                                                                              final Logger logger) {
+        startInvocation();
+        // Calls are recorded as sent to the service, after waiting on the rate limiter
+        final ApiCallMetrics apiCallMetrics = ApiCallMetrics.forInvocation();
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
         try {
-            return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), proxy.newProxy(ClientBuilder::getClient), logger);
+            return summarizeStabilization(handleRequest(proxy, request, context, ApiRateLimiter.SHARED.wrap(apiCallMetrics.wrap(proxy.newProxy(ClientBuilder::getClient)), deadline, apiCallMetrics::recordPermitWait), logger), context, logger);
         } catch (Exception e) {
-            logger.log("Request Failed : " + e.getMessage() + Arrays.stream(e.getStackTrace())
-                    .map(Objects::toString)
-                    .collect(Collectors.joining("\n")));
+            HandlerLogger.error(logger, "Request Failed : ", e);
             throw e;
+        } finally {
+            apiCallMetrics.log(logger, getClass().getSimpleName());
         }
     }
 
@@ -73,28 +115,95 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                                    final ProxyClient<MemoryDbClient> proxyClient,
                                                                                    final Logger logger);
 
+    /**
+     * Adds the stabilization timeline of the operation to the event that completes it.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> summarizeStabilization(final ProgressEvent<ResourceModel, CallbackContext> event,
+                                                                                 final CallbackContext callbackContext,
+                                                                                 final Logger logger) {
+        final StabilizationTimeline timeline = callbackContext.getStabilizationTimeline();
+        if (event.isInProgress() || timeline == null || !timeline.hasEntries()) {
+            return event;
+        }
+        final String summary = "Stabilization: " + timeline.summarize(System.currentTimeMillis());
+        HandlerLogger.info(logger, () -> summary);
+        event.setMessage(event.getMessage() != null ? event.getMessage() + ". " + summary : summary);
+        return event;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> waitForClusterAvailableStatus(final AmazonWebServicesClientProxy proxy,
                                                                                           final ProxyClient<MemoryDbClient> proxyClient,
                                                                                           final ProgressEvent<ResourceModel, CallbackContext> progress) {
 
         return proxy.initiate("AWS-MemoryDB-Cluster::stabilizeCluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(Function.identity()).backoffDelay(STABILIZATION_DELAY).makeServiceCall(EMPTY_CALL)
-                    .stabilize((resourceModel, response, client, model, callbackContext) -> isStabilized(proxy, client, model)).progress();
+                    .translateToServiceRequest(Function.identity())
+                    .backoffDelay(getStabilizationDelay(StabilizationDelay.Profile.CREATE, progress.getCallbackContext()))
+                    .makeServiceCall(EMPTY_CALL)
+                    .stabilize((resourceModel, response, client, model, callbackContext) -> isStabilized(proxy, client, model, callbackContext)).progress();
+    }
+
+    /**
+     * Returns the delay used between two stabilization checks. Handlers may override it to plug another strategy.
+     */
+    protected Delay getStabilizationDelay(final StabilizationDelay.Profile profile,
+                                          final CallbackContext callbackContext) {
+        return StabilizationDelay.of(profile, callbackContext);
     }
 
     protected Boolean isStabilized(final AmazonWebServicesClientProxy proxy,
                                    final ProxyClient<MemoryDbClient> client,
-                                   final ResourceModel model) {
+                                   final ResourceModel model,
+                                   final CallbackContext callbackContext) {
         try {
-            final Cluster cluster = getCluster(proxy, client, model);
-            return STABILIZED_STATUS.equalsIgnoreCase(cluster.status());
+            if (!isDescribeNeeded(client, model, callbackContext)) {
+                // the poll still counts, with the last status seen
+                observeStatus(callbackContext, callbackContext.getLastObservedStatus());
+                return false;
+            }
+            final Cluster cluster = getCluster(proxy, client, model, callbackContext);
+            observeStatus(callbackContext, cluster.status());
+            if (!STABILIZED_STATUS.equalsIgnoreCase(cluster.status())) {
+                return false;
+            }
+            ClusterEventWatcher.reset(callbackContext);
+            return true;
         } catch (ClusterNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
+        } catch (CfnThrottlingException e) {
+            // the describe ran out of throttling retries, CloudFormation retries the handler
+            throw e;
         } catch (Exception e) {
             throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getClusterName(), e);
         }
     }
 
+    /**
+     * Keeps the status seen by a stabilizer poll, for the stabilization delay profile and the stabilization timeline.
+     */
+    protected void observeStatus(final CallbackContext callbackContext, final String status) {
+        callbackContext.setLastObservedStatus(status);
+        callbackContext.getStabilizationTimeline().record(status);
+    }
+
+    /**
+     * Returns true if a stabilizer has to describe the cluster on this poll.
+     */
+    protected boolean isDescribeNeeded(final ProxyClient<MemoryDbClient> client,
+                                       final ResourceModel model,
+                                       final CallbackContext callbackContext) {
+        return !environment.isEventDrivenStabilization()
+                || ClusterEventWatcher.isDescribeNeeded(client, model, callbackContext, Instant.now());
+    }
+
+    /**
+     * Must be called with the mutating call a stabilizer waits for, so that it ignores the events of earlier operations.
+     */
+    protected void startStabilizationCycle(final CallbackContext callbackContext) {
+        if (environment.isEventDrivenStabilization()) {
+            ClusterEventWatcher.startCycle(callbackContext, Instant.now());
+        }
+    }
+
     protected ResourceModel getCurrentState(final AmazonWebServicesClientProxy proxy,
                                             final ProxyClient<MemoryDbClient> client,
                                             final ResourceModel model) {
@@ -102,33 +211,75 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return Translator.translateFromReadResponse(cluster);
     }
 
+    /**
+     * Describes the cluster, retrying throttled calls like {@link #handleExceptions} does.
+     */
     public Cluster getCluster(final AmazonWebServicesClientProxy proxy,
                               final ProxyClient<MemoryDbClient> client,
                               final ResourceModel model) {
         try {
-            final DescribeClustersResponse response =
-                    proxy.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), client.client()::describeClusters);
+            final DescribeClustersResponse response = throttlingRetryPolicy.call(() ->
+                    client.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), client.client()::describeClusters));
             return response.clusters().stream().findFirst().get();
         } catch (ClusterNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
+        } catch (CfnThrottlingException e) {
+            throw e;
         } catch (Exception e) {
             throw new CfnServiceInternalErrorException(e);
         }
     }
 
+    /**
+     * Describes the cluster and keeps the result in the callback context, so that later steps of the same invocation
+     * can reuse it as long as the cluster is not modified in between.
+     */
+    protected Cluster getCluster(final AmazonWebServicesClientProxy proxy,
+                                 final ProxyClient<MemoryDbClient> client,
+                                 final ResourceModel model,
+                                 final CallbackContext callbackContext) {
+        final Cluster cluster = getCluster(proxy, client, model);
+        callbackContext.setDescribedCluster(cluster);
+        return cluster;
+    }
+
+    /**
+     * Returns the cluster described earlier in this invocation, or null if it has to be described again.
+     */
+    protected Cluster getDescribedCluster(final ResourceModel model,
+                                          final CallbackContext callbackContext) {
+        final Cluster cluster = callbackContext.getDescribedCluster();
+        return cluster != null && Objects.equals(cluster.name(), model.getClusterName()) ? cluster : null;
+    }
+
+    /**
+     * Must be called on every mutating call (update, tag, untag) so that the next describe reaches the service.
+     */
+    protected void invalidateDescribedCluster(final CallbackContext callbackContext) {
+        callbackContext.setDescribedCluster(null);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> describeClusters(
             AmazonWebServicesClientProxy proxy,
             ProgressEvent<ResourceModel, CallbackContext> progress,
             ProxyClient<MemoryDbClient> proxyClient
     ) {
+        final Cluster describedCluster = getDescribedCluster(progress.getResourceModel(), progress.getCallbackContext());
+        if (describedCluster != null) {
+            return ProgressEvent.progress(Translator.translateFromReadResponse(describedCluster), progress.getCallbackContext());
+        }
+
         return proxy
                 .initiate("AWS-MemoryDB-Cluster::Describe", proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 .makeServiceCall((awsRequest, client) -> handleExceptions(() ->
                         client.injectCredentialsAndInvokeV2(awsRequest, client.client()::describeClusters)))
-                .done((describeClustersRequest, describeClustersResponse, proxyInvocation, resourceModel, context) ->
-                        ProgressEvent.progress(Translator.translateFromReadResponse(describeClustersResponse), context));
+                .done((describeClustersRequest, describeClustersResponse, proxyInvocation, resourceModel, context) -> {
+                    final ResourceModel describedModel = Translator.translateFromReadResponse(describeClustersResponse);
+                    context.setDescribedCluster(describeClustersResponse.clusters().get(0));
+                    return ProgressEvent.progress(describedModel, context);
+                });
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> listTags(
@@ -156,7 +307,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected <T> T handleExceptions(Supplier<T> call) {
         try {
-            return call.get();
+            return throttlingRetryPolicy.call(call);
         } catch (final InvalidParameterException | InvalidParameterValueException  | InvalidParameterCombinationException e) {
             throw new CfnInvalidRequestException(e);
         } catch (final ClusterAlreadyExistsException | SnapshotAlreadyExistsException e) {
@@ -172,6 +323,24 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
     }
 
+    /**
+     * Waits for a call made ahead through the async client on the first use of the returned supplier, and makes the
+     * call again through the given one on later uses, i.e. when {@link #handleExceptions} retries it after throttling.
+     */
+    protected static <T> Supplier<T> joinOrCall(final CompletableFuture<T> inFlight, final Supplier<T> call) {
+        final AtomicBoolean joined = new AtomicBoolean();
+        return () -> {
+            if (joined.getAndSet(true)) {
+                return call.get();
+            }
+            try {
+                return inFlight.join();
+            } catch (final CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        };
+    }
+
     protected boolean isArnPresent(ResourceModel model) {
         return model.getARN() != null && !model.getARN().isEmpty();
     }
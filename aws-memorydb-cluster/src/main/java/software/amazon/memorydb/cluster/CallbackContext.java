@@ -1,5 +1,12 @@
 package software.amazon.memorydb.cluster;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import software.amazon.awssdk.services.memorydb.model.Cluster;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -7,4 +14,32 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // Last cluster status seen by a stabilizer, used to pick the stabilization delay profile
+    private String lastObservedStatus;
+
+    // Update checkpoints: fields still to be updated, null until the update has been planned, and completed steps
+    private Set<ClusterUpdateFieldType> pendingUpdateFields;
+    private List<String> completedUpdateSteps = new ArrayList<>();
+
+    // Start of the DescribeEvents window of the current stabilization cycle, past the events it has seen, in epoch milliseconds
+    private Long eventsSince;
+    private int pollsWithoutDescribe;
+
+    // Last successful DescribeClusters result of the current invocation, never carried over to the next callback
+    @JsonIgnore
+    @lombok.ToString.Exclude
+    @lombok.EqualsAndHashCode.Exclude
+    private Cluster describedCluster;
+
+    // Set once the create preflight checks passed, so that they don't run again on callbacks
+    private boolean preflightPassed;
+
+    // References to other resources validated during the current invocation
+    @JsonIgnore
+    @lombok.ToString.Exclude
+    @lombok.EqualsAndHashCode.Exclude
+    private Set<String> validatedReferences = new HashSet<>();
+
+    // Statuses observed by the stabilizers of the operation, summarized in the event that completes it
+    private StabilizationTimeline stabilizationTimeline = new StabilizationTimeline();
 }
@@ -1,10 +1,77 @@
 package software.amazon.memorydb.cluster;
 
+import java.time.Duration;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.services.memorydb.MemoryDbAsyncClient;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
+/**
+ * Holds a single MemoryDbClient per container. Credentials are injected on every request by the proxy, so warm
+ * invocations share the client instead of building it again. The MemoryDbAsyncClient of concurrent reads is held the
+ * same way, and only built once a read needs it.
+ */
 public class ClientBuilder {
+
+    // Concurrent reads run a handful of calls at once, a couple of threads serve them
+    static final int ASYNC_EVENT_LOOP_THREADS = 2;
+    static final int ASYNC_MAX_CONCURRENCY = 8;
+    static final Duration ASYNC_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+    static final Duration ASYNC_CONNECTION_ACQUISITION_TIMEOUT = Duration.ofSeconds(5);
+    static final Duration ASYNC_READ_WRITE_TIMEOUT = Duration.ofSeconds(10);
+    static final Duration ASYNC_API_CALL_TIMEOUT = Duration.ofSeconds(30);
+
+    private static volatile MemoryDbClient client;
+    private static volatile MemoryDbAsyncClient asyncClient;
+
     public static MemoryDbClient getClient() {
+        MemoryDbClient result = client;
+        if (result == null) {
+            synchronized (ClientBuilder.class) {
+                result = client;
+                if (result == null) {
+                    result = newClient();
+                    client = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    static MemoryDbClient newClient() {
         return MemoryDbClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT).build();
     }
+
+    public static MemoryDbAsyncClient getAsyncClient() {
+        MemoryDbAsyncClient result = asyncClient;
+        if (result == null) {
+            synchronized (ClientBuilder.class) {
+                result = asyncClient;
+                if (result == null) {
+                    result = newAsyncClient();
+                    asyncClient = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    static MemoryDbAsyncClient newAsyncClient() {
+        // the http client of the wrapper is sync only, the async client gets its own with few threads and explicit timeouts
+        return MemoryDbAsyncClient.builder()
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .eventLoopGroupBuilder(SdkEventLoopGroup.builder().numberOfThreads(ASYNC_EVENT_LOOP_THREADS))
+                        .maxConcurrency(ASYNC_MAX_CONCURRENCY)
+                        .connectionTimeout(ASYNC_CONNECTION_TIMEOUT)
+                        .connectionAcquisitionTimeout(ASYNC_CONNECTION_ACQUISITION_TIMEOUT)
+                        .readTimeout(ASYNC_READ_WRITE_TIMEOUT)
+                        .writeTimeout(ASYNC_READ_WRITE_TIMEOUT))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .apiCallTimeout(ASYNC_API_CALL_TIMEOUT)
+                        .build())
+                .build();
+    }
 }
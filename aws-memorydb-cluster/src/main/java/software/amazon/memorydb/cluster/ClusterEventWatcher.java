@@ -0,0 +1,113 @@
+package software.amazon.memorydb.cluster;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.DescribeEventsResponse;
+import software.amazon.awssdk.services.memorydb.model.Event;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Cheap pre-check for the cluster stabilizers, based on DescribeEvents.
+ *
+ * A stabilization cycle starts with the mutating call it waits for, see {@link #startCycle}, and its first poll always
+ * describes the cluster. Following polls only read the events of the cluster the cycle has not seen yet, and the
+ * cluster is described again once one of them reports that an operation ended, or after a few polls without any, in
+ * case such an event is missed.
+ */
+final class ClusterEventWatcher {
+
+    static final int MAX_POLLS_WITHOUT_DESCRIBE = 5;
+    static final int EVENTS_MAX_RESULTS = 100;
+    // Events are dated by the service clock, which may be behind ours. At worst, a terminal event of an earlier
+    // operation within the allowance costs one extra describe.
+    static final Duration SKEW_ALLOWANCE = Duration.ofSeconds(5);
+
+    // Events carry no type, only a message: an operation ended when one of these is a word of it. Whole words, so
+    // that e.g. "unavailable" or "failover" don't match.
+    private static final Set<String> TERMINAL_EVENT_WORDS = new HashSet<>(
+            Arrays.asList("complete", "completed", "failed", "available", "created", "updated", "modified"));
+    private static final Pattern NON_LETTERS = Pattern.compile("[^a-z]+");
+
+    private ClusterEventWatcher() {
+    }
+
+    /**
+     * Starts a stabilization cycle, to be called with the mutating call the cycle waits for. Events dated before it,
+     * less the skew allowance, belong to earlier operations, and the first poll of the cycle describes the cluster.
+     */
+    static void startCycle(final CallbackContext callbackContext, final Instant mutatedAt) {
+        callbackContext.setEventsSince(mutatedAt.minus(SKEW_ALLOWANCE).toEpochMilli());
+        callbackContext.setPollsWithoutDescribe(MAX_POLLS_WITHOUT_DESCRIBE);
+    }
+
+    /**
+     * Returns true if the cluster has to be described to know whether it is stabilized.
+     */
+    static boolean isDescribeNeeded(final ProxyClient<MemoryDbClient> client,
+                                    final ResourceModel model,
+                                    final CallbackContext callbackContext,
+                                    final Instant now) {
+        final Long eventsSince = callbackContext.getEventsSince();
+        if (eventsSince == null) {
+            // no mutating call started the cycle, the events are only read from now on
+            callbackContext.setEventsSince(now.toEpochMilli());
+            callbackContext.setPollsWithoutDescribe(0);
+            return true;
+        }
+        if (callbackContext.getPollsWithoutDescribe() >= MAX_POLLS_WITHOUT_DESCRIBE) {
+            callbackContext.setPollsWithoutDescribe(0);
+            return true;
+        }
+
+        final DescribeEventsResponse response;
+        try {
+            response = client.injectCredentialsAndInvokeV2(
+                    Translator.translateToDescribeEventsRequest(model, Instant.ofEpochMilli(eventsSince)), client.client()::describeEvents);
+        } catch (final Exception e) {
+            // Events are only an optimization, describe the cluster instead
+            return true;
+        }
+
+        // The window moves past the events seen, so each of them triggers at most one describe
+        long newestEvent = eventsSince - 1;
+        boolean terminal = false;
+        for (final Event event : response.events()) {
+            if (event.date() == null || event.date().toEpochMilli() < eventsSince) {
+                continue;
+            }
+            newestEvent = Math.max(newestEvent, event.date().toEpochMilli());
+            terminal |= isTerminal(event);
+        }
+        callbackContext.setEventsSince(newestEvent + 1);
+
+        if (response.nextToken() != null || terminal) {
+            callbackContext.setPollsWithoutDescribe(0);
+            return true;
+        }
+        callbackContext.setPollsWithoutDescribe(callbackContext.getPollsWithoutDescribe() + 1);
+        return false;
+    }
+
+    /**
+     * Ends the stabilization cycle.
+     */
+    static void reset(final CallbackContext callbackContext) {
+        callbackContext.setEventsSince(null);
+        callbackContext.setPollsWithoutDescribe(0);
+    }
+
+    static boolean isTerminal(final Event event) {
+        if (event.message() == null) {
+            return false;
+        }
+        return Arrays.stream(NON_LETTERS.split(event.message().toLowerCase(Locale.ROOT)))
+                .anyMatch(TERMINAL_EVENT_WORDS::contains);
+    }
+}
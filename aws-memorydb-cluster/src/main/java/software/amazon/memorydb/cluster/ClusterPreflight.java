@@ -0,0 +1,211 @@
+package software.amazon.memorydb.cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.memorydb.MemoryDbAsyncClient;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeEngineVersionsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.EngineVersionInfo;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroup;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroupNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroupNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Checks the resources a new cluster refers to before it is created, so that a wrong reference fails the create
+ * right away instead of after the create call and its stabilization.
+ *
+ * The subnet group, parameter group, ACL and engine version are looked up concurrently through the async client when
+ * reads are concurrent, see HandlerEnvironment, and one after the other on the handler thread otherwise. The family of
+ * the parameter group is checked against the engine version. The node type is left to the service,
+ * there is no API listing the node types an engine version supports. Lookups go through the handler's
+ * handleExceptions, so throttling is retried and other failures, e.g. missing permissions, fail the create like any
+ * other call would.
+ */
+final class ClusterPreflight {
+
+    static final String MESSAGE_FORMAT = "Cluster %s cannot be created: %s";
+    // Present in every account
+    static final String DEFAULT_ACL_NAME = "open-access";
+
+    private ClusterPreflight() {
+    }
+
+    /**
+     * Result of a single lookup: the resource was found, possibly with its parameter group family, or is missing.
+     */
+    private static final class Lookup {
+        private final String reference;
+        private final boolean found;
+        private final String family;
+
+        private Lookup(final String reference, final boolean found, final String family) {
+            this.reference = reference;
+            this.found = found;
+            this.family = family;
+        }
+    }
+
+    static void validate(final BaseHandlerStd handler,
+                         final ProxyClient<MemoryDbClient> proxyClient,
+                         final ResourceModel model,
+                         final CallbackContext callbackContext) {
+        if (callbackContext.isPreflightPassed()) {
+            return;
+        }
+        final Set<String> validated = callbackContext.getValidatedReferences();
+        final List<String> problems = new ArrayList<>();
+        final MemoryDbAsyncClient asyncClient = handler.getEnvironment().isConcurrentRead()
+                ? handler.getEnvironment().getAsyncClient().get()
+                : null;
+        final List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        final Optional<Supplier<Lookup>> subnetGroupLookup = start(handler, "subnet group", model.getSubnetGroupName(), validated,
+                name -> {
+                    final Supplier<DescribeSubnetGroupsResponse> response = send(proxyClient, asyncClient, inFlight,
+                            Translator.translateToDescribeSubnetGroupRequest(name), proxyClient.client()::describeSubnetGroups,
+                            request -> asyncClient.describeSubnetGroups(request));
+                    return () -> {
+                        try {
+                            response.get();
+                            return new Lookup(name, true, null);
+                        } catch (final SubnetGroupNotFoundException e) {
+                            return new Lookup(name, false, null);
+                        }
+                    };
+                });
+        // the parameter group is always looked up, its family is checked against the engine version
+        final Optional<Supplier<Lookup>> parameterGroupLookup = start(handler, "parameter group", model.getParameterGroupName(), null,
+                name -> {
+                    final Supplier<DescribeParameterGroupsResponse> response = send(proxyClient, asyncClient, inFlight,
+                            Translator.translateToDescribeParameterGroupRequest(name), proxyClient.client()::describeParameterGroups,
+                            request -> asyncClient.describeParameterGroups(request));
+                    return () -> {
+                        try {
+                            final Optional<ParameterGroup> found = response.get().parameterGroups().stream().findFirst();
+                            return new Lookup(name, found.isPresent(), found.map(ParameterGroup::family).orElse(null));
+                        } catch (final ParameterGroupNotFoundException e) {
+                            return new Lookup(name, false, null);
+                        }
+                    };
+                });
+        final Optional<Supplier<Lookup>> aclLookup = start(handler, "ACL", model.getACLName(), validated,
+                name -> {
+                    if (DEFAULT_ACL_NAME.equals(name)) {
+                        return () -> new Lookup(name, true, null);
+                    }
+                    final Supplier<DescribeAcLsResponse> response = send(proxyClient, asyncClient, inFlight,
+                            Translator.translateToDescribeAclRequest(name), proxyClient.client()::describeACLs,
+                            request -> asyncClient.describeACLs(request));
+                    return () -> {
+                        try {
+                            response.get();
+                            return new Lookup(name, true, null);
+                        } catch (final AclNotFoundException e) {
+                            return new Lookup(name, false, null);
+                        }
+                    };
+                });
+        final Optional<Supplier<Lookup>> engineVersionLookup = start(handler, "engine version", model.getEngineVersion(), null,
+                version -> {
+                    final Supplier<DescribeEngineVersionsResponse> response = send(proxyClient, asyncClient, inFlight,
+                            Translator.translateToDescribeEngineVersionsRequest(version), proxyClient.client()::describeEngineVersions,
+                            request -> asyncClient.describeEngineVersions(request));
+                    return () -> {
+                        final Optional<EngineVersionInfo> found = response.get().engineVersions().stream().findFirst();
+                        return new Lookup(version, found.isPresent(), found.map(EngineVersionInfo::parameterGroupFamily).orElse(null));
+                    };
+                });
+
+        final Optional<Lookup> subnetGroup;
+        final Optional<Lookup> parameterGroup;
+        final Optional<Lookup> acl;
+        final Optional<Lookup> engineVersion;
+        try {
+            subnetGroup = subnetGroupLookup.map(Supplier::get);
+            parameterGroup = parameterGroupLookup.map(Supplier::get);
+            acl = aclLookup.map(Supplier::get);
+            engineVersion = engineVersionLookup.map(Supplier::get);
+        } finally {
+            // a lookup that failed fails the create, the responses still in flight are not needed
+            inFlight.forEach(response -> response.cancel(false));
+        }
+
+        for (final Optional<Lookup> lookup : Arrays.asList(subnetGroup, parameterGroup, acl, engineVersion)) {
+            lookup.ifPresent(result -> {
+                if (result.found) {
+                    validated.add(result.reference);
+                } else {
+                    problems.add(result.reference + " does not exist");
+                }
+            });
+        }
+
+        final String parameterGroupFamily = parameterGroup.map(result -> result.family).orElse(null);
+        final String engineFamily = engineVersion.map(result -> result.family).orElse(null);
+        if (parameterGroupFamily != null && engineFamily != null && !parameterGroupFamily.equalsIgnoreCase(engineFamily)) {
+            problems.add(String.format("parameter group %s of family %s is not compatible with engine version %s (family %s)",
+                    model.getParameterGroupName(), parameterGroupFamily, model.getEngineVersion(), engineFamily));
+        }
+
+        if (!problems.isEmpty()) {
+            throw new CfnInvalidRequestException(String.format(MESSAGE_FORMAT, model.getClusterName(),
+                    problems.stream().collect(Collectors.joining("; "))));
+        }
+        callbackContext.setPreflightPassed(true);
+    }
+
+    /**
+     * Starts the lookup of a reference, unless it is not set or was already validated during the invocation. The
+     * returned lookup goes through the handler, so that throttling is retried.
+     */
+    private static Optional<Supplier<Lookup>> start(final BaseHandlerStd handler,
+                                                    final String kind,
+                                                    final String name,
+                                                    final Set<String> validated,
+                                                    final Function<String, Supplier<Lookup>> describe) {
+        if (name == null || (validated != null && validated.contains(kind + " " + name))) {
+            return Optional.empty();
+        }
+        final Supplier<Lookup> lookup = describe.apply(name);
+        return Optional.of(() -> {
+            final Lookup result = handler.handleExceptions(lookup);
+            return new Lookup(kind + " " + name, result.found, result.family);
+        });
+    }
+
+    /**
+     * Sends the request through the async client when there is one, and returns the call that waits for its response,
+     * see {@link BaseHandlerStd#joinOrCall}. Without async client, the returned call makes the request.
+     */
+    private static <RequestT extends AwsRequest, ResponseT extends AwsResponse> Supplier<ResponseT> send(
+            final ProxyClient<MemoryDbClient> proxyClient,
+            final MemoryDbAsyncClient asyncClient,
+            final List<CompletableFuture<?>> inFlight,
+            final RequestT request,
+            final Function<RequestT, ResponseT> call,
+            final Function<RequestT, CompletableFuture<ResponseT>> asyncCall) {
+        final Supplier<ResponseT> syncCall = () -> proxyClient.injectCredentialsAndInvokeV2(request, call);
+        if (asyncClient == null) {
+            return syncCall;
+        }
+        final CompletableFuture<ResponseT> response = proxyClient.injectCredentialsAndInvokeV2Async(request, asyncCall);
+        inFlight.add(response);
+        return BaseHandlerStd.joinOrCall(response, syncCall);
+    }
+}
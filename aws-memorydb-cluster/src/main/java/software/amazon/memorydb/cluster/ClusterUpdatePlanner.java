@@ -0,0 +1,65 @@
+package software.amazon.memorydb.cluster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Groups the modified {@link ClusterUpdateFieldType}s into the UpdateCluster calls needed to apply them.
+ *
+ * Fields that only change cluster metadata are accepted together by the service, so they are sent in a single
+ * UpdateCluster request and share one stabilization cycle. Node type, engine version, replica and shard changes
+ * trigger node replacement or resharding and are applied one at a time, in the same order as before.
+ */
+final class ClusterUpdatePlanner {
+
+    private static final Set<ClusterUpdateFieldType> DISRUPTIVE_FIELD_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            ClusterUpdateFieldType.NODE_TYPE,
+            ClusterUpdateFieldType.ENGINE_VERSION,
+            ClusterUpdateFieldType.REPLICA_CONFIGURATION,
+            ClusterUpdateFieldType.SHARD_CONFIGURATION));
+
+    private ClusterUpdatePlanner() {
+    }
+
+    /**
+     * Returns the ordered list of update steps, each step being the set of fields sent in one UpdateCluster request.
+     *
+     * @param isUpdateNeeded returns true if the given field type has to be updated
+     * @return update steps, empty if nothing has to be updated
+     */
+    static List<Set<ClusterUpdateFieldType>> plan(final Predicate<ClusterUpdateFieldType> isUpdateNeeded) {
+        final Set<ClusterUpdateFieldType> modified = EnumSet.noneOf(ClusterUpdateFieldType.class);
+        for (final ClusterUpdateFieldType fieldType : ClusterUpdateFieldType.values()) {
+            if (isUpdateNeeded.test(fieldType)) {
+                modified.add(fieldType);
+            }
+        }
+
+        final Set<ClusterUpdateFieldType> coalesced = EnumSet.noneOf(ClusterUpdateFieldType.class);
+        modified.stream().filter(fieldType -> !isDisruptive(fieldType)).forEach(coalesced::add);
+        if (modified.contains(ClusterUpdateFieldType.ENGINE_VERSION)) {
+            // The engine version update already carries the parameter group, which may belong to the new family.
+            coalesced.remove(ClusterUpdateFieldType.PARAMETER_GROUP_NAME);
+        }
+
+        final List<Set<ClusterUpdateFieldType>> steps = new ArrayList<>();
+        if (!coalesced.isEmpty()) {
+            steps.add(coalesced);
+        }
+        modified.stream()
+                .filter(ClusterUpdatePlanner::isDisruptive)
+                .map(fieldType -> fieldType == ClusterUpdateFieldType.ENGINE_VERSION && modified.contains(ClusterUpdateFieldType.PARAMETER_GROUP_NAME)
+                        ? EnumSet.of(fieldType, ClusterUpdateFieldType.PARAMETER_GROUP_NAME)
+                        : EnumSet.of(fieldType))
+                .forEach(steps::add);
+        return steps;
+    }
+
+    static boolean isDisruptive(final ClusterUpdateFieldType fieldType) {
+        return DISRUPTIVE_FIELD_TYPES.contains(fieldType);
+    }
+}
@@ -21,6 +21,13 @@ public class CreateHandler extends BaseHandlerStd {
     public static final String ID_WRONG_FORMAT = "Name must begin with a letter; must contain only lowercase ASCII "
             + "letters, digits, and hyphens; and must not end with a hyphen or contain two consecutive hyphens.";
 
+    public CreateHandler() {
+    }
+
+    CreateHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                           final ResourceHandlerRequest<ResourceModel> request,
                                                                           final CallbackContext callbackContext,
@@ -30,7 +37,7 @@ public class CreateHandler extends BaseHandlerStd {
 
         try {
 
-            logger.log(String.format("Resource model: %s", desiredResourceState.toString()));
+            HandlerLogger.debug(logger, () -> "Resource model: " + HandlerLogger.render(desiredResourceState));
             Validate.isTrue(desiredResourceState.getClusterName() != null, NAME_REQUIRED_FOR_CLUSTER);
             Validate.isTrue(desiredResourceState.getNodeType() != null, NODE_TYPE_REQUIRED_FOR_CLUSTER);
             Validate.isTrue(desiredResourceState.getACLName() != null, ACL_NAME_REQUIRED_FOR_CLUSTER);
@@ -45,9 +52,19 @@ public class CreateHandler extends BaseHandlerStd {
         }
 
 
-        return ProgressEvent.progress(desiredResourceState, callbackContext).then(progress -> createCluster(proxy, proxyClient, progress, request.getDesiredResourceTags()))
+        return ProgressEvent.progress(desiredResourceState, callbackContext)
+                .then(progress -> preflight(proxyClient, progress))
+                .then(progress -> createCluster(proxy, proxyClient, progress, request.getDesiredResourceTags()))
                 .then(progress -> waitForClusterAvailableStatus(proxy, proxyClient, progress))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> new ReadHandler(this).handleRequest(proxy, request, callbackContext, proxyClient, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> preflight(final ProxyClient<MemoryDbClient> proxyClient,
+                                                                    final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        if (getEnvironment().isPreflightValidation()) {
+            ClusterPreflight.validate(this, proxyClient, progress.getResourceModel(), progress.getCallbackContext());
+        }
+        return progress;
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createCluster(final AmazonWebServicesClientProxy proxy,
@@ -57,8 +74,10 @@ public class CreateHandler extends BaseHandlerStd {
         return proxy.initiate("AWS-memorydb-Cluster::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest((resourceModel) -> Translator.translateToCreateRequest(resourceModel, tags))
                 .backoffDelay(STABILIZATION_DELAY)
-                .makeServiceCall((awsRequest, memorydbClientProxyClient) -> handleExceptions(() ->
-                        memorydbClientProxyClient.injectCredentialsAndInvokeV2(awsRequest, memorydbClientProxyClient.client()::createCluster)))
+                .makeServiceCall((awsRequest, memorydbClientProxyClient) -> handleExceptions(() -> {
+                    startStabilizationCycle(progress.getCallbackContext());
+                    return memorydbClientProxyClient.injectCredentialsAndInvokeV2(awsRequest, memorydbClientProxyClient.client()::createCluster);
+                }))
                 .progress();
     }
 
@@ -1,8 +1,8 @@
 package software.amazon.memorydb.cluster;
 
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
-import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -10,6 +10,15 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
+    // Recorded in the stabilization timeline once the cluster is gone
+    private static final String DELETED_STATUS = "deleted";
+
+    public DeleteHandler() {
+    }
+
+    DeleteHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                           final ResourceHandlerRequest<ResourceModel> request,
@@ -27,23 +36,27 @@ public class DeleteHandler extends BaseHandlerStd {
                                                                         final Logger logger) {
 
         return proxy.initiate("AWS-memorydb-Cluster::Delete", proxyClient, request.getDesiredResourceState(), progress.getCallbackContext())
-                    .translateToServiceRequest(Translator::translateToDeleteRequest).backoffDelay(STABILIZATION_DELAY)
+                    .translateToServiceRequest(Translator::translateToDeleteRequest)
+                    .backoffDelay(getStabilizationDelay(StabilizationDelay.Profile.DELETE, progress.getCallbackContext()))
                 .makeServiceCall((awsRequest, client) -> handleExceptions(() ->
                         client.injectCredentialsAndInvokeV2(awsRequest, client.client()::deleteCluster)))
-                .stabilize((awsRequest, awsResponse, client, model, context) -> isDeleted(proxyClient, model))
+                .stabilize((awsRequest, awsResponse, client, model, context) -> isDeleted(proxyClient, model, context))
                 .done((deleteClusterRequest, deleteClusterResponse, proxyInvocation, model, context) -> ProgressEvent
                         .defaultSuccessHandler(null));
     }
 
     private Boolean isDeleted(final ProxyClient<MemoryDbClient> proxyClient,
-                              final ResourceModel model) {
+                              final ResourceModel model,
+                              final CallbackContext callbackContext) {
         try {
-            proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), proxyClient.client()::describeClusters);
+            // throttled describes are retried, once they run out CloudFormation retries the handler
+            final DescribeClustersResponse response = handleExceptions(() ->
+                    proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), proxyClient.client()::describeClusters));
+            response.clusters().stream().findFirst().ifPresent(cluster -> observeStatus(callbackContext, cluster.status()));
             return false;
-        } catch (ClusterNotFoundException e) {
+        } catch (CfnNotFoundException e) {
+            observeStatus(callbackContext, DELETED_STATUS);
             return true;
-        } catch (Exception e) {
-            throw new CfnGeneralServiceException(e);
         }
     }
 }
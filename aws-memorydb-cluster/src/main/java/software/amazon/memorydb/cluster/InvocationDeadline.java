@@ -0,0 +1,35 @@
+package software.amazon.memorydb.cluster;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Time a handler invocation may spend waiting on throttling retries and on the rate limiter. All of them draw from the
+ * same deadline, so that together they stay well below the handler timeout and leave the rest of the wait to
+ * CloudFormation, which calls the handler back.
+ *
+ * The proxy does not expose the remaining time of the invocation, so the deadline is counted from its start.
+ */
+final class InvocationDeadline {
+
+    static final Duration BUDGET = Duration.ofSeconds(30);
+
+    private final LongSupplier clock;
+    private final long deadline;
+
+    InvocationDeadline(final LongSupplier clock, final Duration budget) {
+        this.clock = clock;
+        this.deadline = clock.getAsLong() + budget.toMillis();
+    }
+
+    static InvocationDeadline forInvocation(final LongSupplier clock) {
+        return new InvocationDeadline(clock, BUDGET);
+    }
+
+    /**
+     * Returns whether a wait of the given length, starting now, ends before the deadline.
+     */
+    boolean allows(final long waitMillis) {
+        return clock.getAsLong() + waitMillis <= deadline;
+    }
+}
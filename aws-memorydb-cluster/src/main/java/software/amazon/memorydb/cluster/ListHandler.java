@@ -17,7 +17,7 @@ public class ListHandler extends BaseHandlerStd {
                                                                        final ProxyClient<MemoryDbClient> proxyClient,
                                                                        final Logger logger) {
         final DescribeClustersResponse response =
-                proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()), proxyClient.client()::describeClusters);
+                proxyClient.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()), proxyClient.client()::describeClusters);
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder().resourceModels(Translator.translateFromListResponse(response))
                                                                       .nextToken(response.nextToken()).status(OperationStatus.SUCCESS).build();
@@ -0,0 +1,120 @@
+package software.amazon.memorydb.cluster;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Stabilization delay that starts with short polls and then backs off geometrically, with jitter, up to a cap.
+ *
+ * The profile is chosen from the operation being stabilized and is re-evaluated on every attempt from the last
+ * cluster status observed by the stabilizer, so that a cluster reported as creating or snapshotting is not polled
+ * more often than the slower profile allows.
+ */
+final class StabilizationDelay implements Delay {
+
+    // Same as the former constant delay: the real timeout is set in the resource schema
+    static final Duration TIMEOUT = Duration.ofDays(365L);
+    static final double JITTER_RATIO = 0.2;
+
+    enum Profile {
+        // Metadata only updates usually complete within seconds
+        METADATA(Duration.ofSeconds(5), 3, 2.0, Duration.ofSeconds(60)),
+        DELETE(Duration.ofSeconds(15), 1, 2.0, Duration.ofSeconds(60)),
+        // Node type, engine version, replica and shard changes, snapshots in progress. Polls at 20s, 60s and then every
+        // minute, so a long update is never noticed later than with the former constant delay of a minute
+        SCALING(Duration.ofSeconds(20), 1, 2.0, Duration.ofSeconds(60)),
+        // Create takes 15+ minutes, so there's no need to check if the cluster is available more than every minute
+        CREATE(Duration.ofSeconds(30), 1, 2.0, Duration.ofSeconds(60));
+
+        private final Duration initialDelay;
+        private final int shortPolls;
+        private final double multiplier;
+        private final Duration maxDelay;
+
+        Profile(final Duration initialDelay, final int shortPolls, final double multiplier, final Duration maxDelay) {
+            this.initialDelay = initialDelay;
+            this.shortPolls = shortPolls;
+            this.multiplier = multiplier;
+            this.maxDelay = maxDelay;
+        }
+
+        /**
+         * Returns the delay before the given attempt, without jitter.
+         */
+        Duration baseDelay(final int attempt) {
+            final int backoffAttempt = Math.max(attempt, 1) - shortPolls;
+            if (backoffAttempt <= 0) {
+                return initialDelay;
+            }
+            final double delay = initialDelay.toMillis() * Math.pow(multiplier, backoffAttempt);
+            return delay >= maxDelay.toMillis() ? maxDelay : Duration.ofMillis((long) delay);
+        }
+
+        Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        static Profile forUpdate(final Set<ClusterUpdateFieldType> fieldTypes) {
+            return fieldTypes.stream().anyMatch(ClusterUpdatePlanner::isDisruptive) ? SCALING : METADATA;
+        }
+
+        /**
+         * Returns the profile implied by an observed cluster status, or null if the status does not call for one.
+         */
+        static Profile forStatus(final String status) {
+            if (status == null) {
+                return null;
+            }
+            switch (status.toLowerCase()) {
+                case "creating":
+                    return CREATE;
+                case "snapshotting":
+                    return SCALING;
+                case "deleting":
+                    return DELETE;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    private final Profile profile;
+    private final Supplier<String> lastObservedStatus;
+    private final DoubleSupplier random;
+
+    StabilizationDelay(final Profile profile,
+                       final Supplier<String> lastObservedStatus,
+                       final DoubleSupplier random) {
+        this.profile = profile;
+        this.lastObservedStatus = lastObservedStatus;
+        this.random = random;
+    }
+
+    static StabilizationDelay of(final Profile profile, final CallbackContext callbackContext) {
+        return new StabilizationDelay(profile, callbackContext::getLastObservedStatus, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        final Profile current = currentProfile();
+        if (current.getMaxDelay().multipliedBy(Math.max(attempt, 1)).compareTo(TIMEOUT) > 0) {
+            return Duration.ZERO;
+        }
+        final long base = current.baseDelay(attempt).toMillis();
+        final long jittered = (long) (base * (1 - JITTER_RATIO + 2 * JITTER_RATIO * random.getAsDouble()));
+        final long bounded = Math.min(Math.max(jittered, 1000L), current.getMaxDelay().toMillis());
+        // the proxy waits in whole seconds
+        return Duration.ofSeconds(Math.max(1L, Math.round(bounded / 1000.0)));
+    }
+
+    Profile currentProfile() {
+        final Profile statusProfile = Profile.forStatus(lastObservedStatus.get());
+        // the slower of the two profiles wins, profiles are declared from the fastest to the slowest
+        return statusProfile != null && statusProfile.ordinal() > profile.ordinal() ? statusProfile : profile;
+    }
+}
@@ -0,0 +1,74 @@
+package software.amazon.memorydb.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Statuses observed by the stabilizers of an operation, kept in the callback context across callbacks.
+ *
+ * Consecutive polls that observe the same status share one entry, with the time the status was first seen and the
+ * number of polls that saw it, so the timeline only grows when the status changes. It is bounded nevertheless: past
+ * {@link #MAX_ENTRIES}, the oldest entries after the first one are dropped, so the start of the operation stays known.
+ */
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class StabilizationTimeline {
+    static final int MAX_ENTRIES = 16;
+    static final String UNKNOWN_STATUS = "unknown";
+
+    private List<Entry> entries = new ArrayList<>();
+
+    @lombok.Data
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    public static class Entry {
+        // Epoch milliseconds of the first poll that observed the status
+        private long timestamp;
+        private String status;
+        private int polls;
+    }
+
+    void record(final String status) {
+        record(status, System.currentTimeMillis());
+    }
+
+    void record(final String status, final long nowMillis) {
+        final String observed = status != null ? status : UNKNOWN_STATUS;
+        final Entry last = entries.isEmpty() ? null : entries.get(entries.size() - 1);
+        if (last != null && Objects.equals(last.getStatus(), observed)) {
+            last.setPolls(last.getPolls() + 1);
+            return;
+        }
+        entries.add(new Entry(nowMillis, observed, 1));
+        if (entries.size() > MAX_ENTRIES) {
+            entries.remove(1);
+        }
+    }
+
+    boolean hasEntries() {
+        return !entries.isEmpty();
+    }
+
+    /**
+     * Returns e.g. "creating for 842s (15 polls), available for 0s (1 poll)": how long each status lasted, the last one
+     * until now, or null if nothing was observed.
+     */
+    String summarize(final long nowMillis) {
+        if (entries.isEmpty()) {
+            return null;
+        }
+        final StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < entries.size(); i++) {
+            final Entry entry = entries.get(i);
+            final long until = i + 1 < entries.size() ? entries.get(i + 1).getTimestamp() : nowMillis;
+            summary.append(i > 0 ? ", " : "")
+                    .append(entry.getStatus())
+                    .append(" for ").append(Math.max(0L, until - entry.getTimestamp()) / 1000L).append('s')
+                    .append(" (").append(entry.getPolls()).append(entry.getPolls() == 1 ? " poll)" : " polls)");
+        }
+        return summary.toString();
+    }
+}
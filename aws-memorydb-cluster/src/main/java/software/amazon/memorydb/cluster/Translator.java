@@ -1,7 +1,9 @@
 package software.amazon.memorydb.cluster;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -13,12 +15,18 @@ import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.services.memorydb.model.Cluster;
 import software.amazon.awssdk.services.memorydb.model.CreateClusterRequest;
 import software.amazon.awssdk.services.memorydb.model.DeleteClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeAcLsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeEngineVersionsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeEventsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ReplicaConfigurationRequest;
 import software.amazon.awssdk.services.memorydb.model.SecurityGroupMembership;
 import software.amazon.awssdk.services.memorydb.model.ShardConfigurationRequest;
+import software.amazon.awssdk.services.memorydb.model.SourceType;
 import software.amazon.awssdk.services.memorydb.model.Tag;
 import software.amazon.awssdk.services.memorydb.model.TagResourceRequest;
 import software.amazon.awssdk.services.memorydb.model.UntagResourceRequest;
@@ -33,6 +41,9 @@ import software.amazon.awssdk.services.memorydb.model.UpdateClusterRequest;
 
 public class Translator {
 
+    // Largest page accepted by DescribeClusters
+    static final int LIST_MAX_RESULTS = 100;
+
     /**
      * Returns true if desiredValue is not null and it is not equal to the currentValue.
      *
@@ -124,6 +135,31 @@ public class Translator {
         return DescribeClustersRequest.builder().clusterName(model.getClusterName()).showShardDetails(true).build();
     }
 
+    static DescribeEventsRequest translateToDescribeEventsRequest(final ResourceModel model, final Instant startTime) {
+        return DescribeEventsRequest.builder()
+                .sourceName(model.getClusterName())
+                .sourceType(SourceType.CLUSTER)
+                .startTime(startTime)
+                .maxResults(ClusterEventWatcher.EVENTS_MAX_RESULTS)
+                .build();
+    }
+
+    static DescribeSubnetGroupsRequest translateToDescribeSubnetGroupRequest(final String subnetGroupName) {
+        return DescribeSubnetGroupsRequest.builder().subnetGroupName(subnetGroupName).build();
+    }
+
+    static DescribeParameterGroupsRequest translateToDescribeParameterGroupRequest(final String parameterGroupName) {
+        return DescribeParameterGroupsRequest.builder().parameterGroupName(parameterGroupName).build();
+    }
+
+    static DescribeAcLsRequest translateToDescribeAclRequest(final String aclName) {
+        return DescribeAcLsRequest.builder().aclName(aclName).build();
+    }
+
+    static DescribeEngineVersionsRequest translateToDescribeEngineVersionsRequest(final String engineVersion) {
+        return DescribeEngineVersionsRequest.builder().engineVersion(engineVersion).build();
+    }
+
     static ListTagsRequest translateToListTagsRequest(final ResourceModel model) {
         return translateToListTagsRequest(model.getARN());
     }
@@ -133,7 +169,22 @@ public class Translator {
     }
 
     static UpdateClusterRequest translateToUpdateRequest(final ResourceModel model, ClusterUpdateFieldType fieldType) {
-        UpdateClusterRequest.Builder builder = UpdateClusterRequest.builder().clusterName(model.getClusterName());
+        return translateToUpdateRequest(model, EnumSet.of(fieldType));
+    }
+
+    /**
+     * Request to update several properties of a cluster in a single UpdateCluster call
+     * @param model resource model
+     * @param fieldTypes properties to include in the request
+     * @return awsRequest the aws service request to modify a resource
+     */
+    static UpdateClusterRequest translateToUpdateRequest(final ResourceModel model, final Set<ClusterUpdateFieldType> fieldTypes) {
+        final UpdateClusterRequest.Builder builder = UpdateClusterRequest.builder().clusterName(model.getClusterName());
+        fieldTypes.forEach(fieldType -> addUpdateField(builder, model, fieldType));
+        return builder.build();
+    }
+
+    private static void addUpdateField(final UpdateClusterRequest.Builder builder, final ResourceModel model, final ClusterUpdateFieldType fieldType) {
         switch (fieldType) {
             case DESCRIPTION:
                 builder.description(model.getDescription());
@@ -174,13 +225,12 @@ public class Translator {
                 builder.shardConfiguration(ShardConfigurationRequest.builder().shardCount(model.getNumShards()).build());
                 break;
             case ACL_NAME:
-                builder.aclName(model.getACLName()).build();
+                builder.aclName(model.getACLName());
                 break;
             default:
                 throw new RuntimeException("Unknown ClusterUpdateFieldType " + fieldType);
 
         }
-        return builder.build();
     }
 
     static ResourceModel translateFromReadResponse(final DescribeClustersResponse response) {
@@ -188,7 +238,7 @@ public class Translator {
     }
 
     static ResourceModel translateFromReadResponse(Cluster cluster) {
-        final int replicaCount = cluster.shards().stream().mapToInt(software.amazon.awssdk.services.memorydb.model.Shard::numberOfNodes).min().orElse(1) - 1;
+        final Integer replicaCount = translateReplicaCount(cluster);
         final List<String> securityGroupIds = cluster.securityGroups().stream().map(SecurityGroupMembership::securityGroupId).collect(Collectors.toList());
         return ResourceModel.builder()
                 .clusterName(cluster.name())
@@ -215,6 +265,17 @@ public class Translator {
                 .clusterEndpoint(translateEndpoint(cluster)).build();
     }
 
+    /**
+     * Replica count is only known from the shard details, it is left unset for clusters described without them
+     * (list) and filled in when the cluster is read.
+     */
+    static Integer translateReplicaCount(final Cluster cluster) {
+        if (!cluster.hasShards()) {
+            return null;
+        }
+        return cluster.shards().stream().mapToInt(software.amazon.awssdk.services.memorydb.model.Shard::numberOfNodes).min().orElse(1) - 1;
+    }
+
     static Endpoint translateEndpoint(final Cluster cluster) {
         return Endpoint.builder().address(cluster.clusterEndpoint().address()).port(cluster.clusterEndpoint().port()).build();
     }
@@ -224,7 +285,8 @@ public class Translator {
     }
 
     static DescribeClustersRequest translateToListRequest(final String nextToken) {
-        return DescribeClustersRequest.builder().nextToken(nextToken).showShardDetails(true).build();
+        // Shard and node details are only needed for the replica count, which list leaves to read
+        return DescribeClustersRequest.builder().nextToken(nextToken).maxResults(LIST_MAX_RESULTS).showShardDetails(false).build();
     }
 
     static List<ResourceModel> translateFromListResponse(final DescribeClustersResponse describeClustersResponse) {
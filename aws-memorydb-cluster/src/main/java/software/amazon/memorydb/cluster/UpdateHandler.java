@@ -23,55 +23,52 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class UpdateHandler extends BaseHandlerStd {
 
+    public UpdateHandler() {
+    }
+
+    UpdateHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                           final ResourceHandlerRequest<ResourceModel> request,
                                                                           final CallbackContext callbackContext,
                                                                           final ProxyClient<MemoryDbClient> proxyClient,
                                                                           final Logger logger) {
-        logger.log(String.format("Resource model: %s", request.getDesiredResourceState()));
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.DESCRIPTION, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.SECURITY_GROUP_IDS, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.MAINTENANCE_WINDOW, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.SNS_TOPIC_ARN, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.SNS_TOPIC_STATUS, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.SNAPSHOT_WINDOW, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.SNAPSHOT_RETENTION_LIMIT, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.NODE_TYPE, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.ENGINE_VERSION, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.PARAMETER_GROUP_NAME, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.REPLICA_CONFIGURATION, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.SHARD_CONFIGURATION, logger))
-                .then(progress -> updateCluster(proxy, proxyClient, progress, request, ClusterUpdateFieldType.ACL_NAME, logger))
+        HandlerLogger.debug(logger, () -> "Resource model: " + HandlerLogger.render(request.getDesiredResourceState()));
+        if (callbackContext.getPendingUpdateFields() == null) {
+            final Set<ClusterUpdateFieldType> modified = EnumSet.noneOf(ClusterUpdateFieldType.class);
+            for (final ClusterUpdateFieldType fieldType : ClusterUpdateFieldType.values()) {
+                if (isUpdateNeeded(request.getDesiredResourceState(), request.getPreviousResourceState(), fieldType, logger)) {
+                    modified.add(fieldType);
+                }
+            }
+            callbackContext.setPendingUpdateFields(modified);
+        } else {
+            HandlerLogger.info(logger, () -> String.format("Resuming update, completed steps: %s, pending fields: %s",
+                    callbackContext.getCompletedUpdateSteps(), callbackContext.getPendingUpdateFields()));
+        }
+        final List<Set<ClusterUpdateFieldType>> updatePlan = ClusterUpdatePlanner.plan(callbackContext.getPendingUpdateFields()::contains);
+
+        ProgressEvent<ResourceModel, CallbackContext> progressEvent = ProgressEvent.progress(request.getDesiredResourceState(), callbackContext);
+        for (final Set<ClusterUpdateFieldType> fieldTypes : updatePlan) {
+            progressEvent = progressEvent.then(progress -> updateCluster(proxy, proxyClient, progress, request.getDesiredResourceState(), fieldTypes, logger));
+        }
+        return progressEvent
                 .then(progress -> describeClusters(proxy, progress, proxyClient))
                 .then(progress -> tagResource(proxy, proxyClient, progress, request, logger))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
 
-    ProgressEvent<ResourceModel, CallbackContext> updateCluster(final AmazonWebServicesClientProxy proxy,
-                                                                final ProxyClient<MemoryDbClient> proxyClient,
-                                                                final ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                final ResourceHandlerRequest<ResourceModel> request,
-                                                                final ClusterUpdateFieldType fieldType,
-                                                                final Logger logger) {
-
-        final ResourceModel desiredResourceState = request.getDesiredResourceState();
-        final ResourceModel currentResourceState = request.getPreviousResourceState();
-
-        if (!isUpdateNeeded(desiredResourceState, currentResourceState, fieldType, logger)) {
-            return progress;
-        }
-
-        return updateCluster(proxy, proxyClient, progress, desiredResourceState, fieldType, logger);
-    }
-
-
     private boolean isUpdateNeeded(final Map<String, String> desiredResourceTags,
                                    final Map<String, String> currentResourceTags) {
         return Translator.isModified(desiredResourceTags, currentResourceTags);
@@ -124,7 +121,7 @@ public class UpdateHandler extends BaseHandlerStd {
                 isModified = Translator.isModified(desiredResourceState.getACLName(), currentResourceState.getACLName());
                 break;
             default:
-                logger.log(String.format("Modification type [%s] not supported", fieldType));
+                HandlerLogger.warn(logger, () -> String.format("Modification type [%s] not supported", fieldType));
                 throw new CfnInternalFailureException();
         }
         return isModified;
@@ -136,26 +133,47 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                 final ResourceModel desiredResourceState,
                                                                 final ClusterUpdateFieldType fieldType,
                                                                 final Logger logger) {
-        logger.log(String.format("Updating fieldType : %s" , fieldType.name()));
-        return proxy.initiate("AWS-memorydb-Cluster::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, fieldType))
-                .backoffDelay(STABILIZATION_DELAY)
-                .makeServiceCall((awsRequest, memoryDbClientProxyClient) -> handleExceptions(() ->  memoryDbClientProxyClient.injectCredentialsAndInvokeV2(awsRequest, memoryDbClientProxyClient.client()::updateCluster)))
+        return updateCluster(proxy, proxyClient, progress, desiredResourceState, EnumSet.of(fieldType), logger);
+    }
+
+    ProgressEvent<ResourceModel, CallbackContext> updateCluster(final AmazonWebServicesClientProxy proxy,
+                                                                final ProxyClient<MemoryDbClient> proxyClient,
+                                                                final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                final ResourceModel desiredResourceState,
+                                                                final Set<ClusterUpdateFieldType> fieldTypes,
+                                                                final Logger logger) {
+        HandlerLogger.debug(logger, () -> String.format("Updating fieldTypes : %s", fieldTypes));
+        // Every update step needs its own call graph, otherwise the memoized request of the first step is replayed
+        return proxy.initiate("AWS-memorydb-Cluster::Update::" + getCallGraphSuffix(fieldTypes), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, fieldTypes))
+                .backoffDelay(getStabilizationDelay(StabilizationDelay.Profile.forUpdate(fieldTypes), progress.getCallbackContext()))
+                .makeServiceCall((awsRequest, memoryDbClientProxyClient) -> handleExceptions(() -> {
+                    invalidateDescribedCluster(progress.getCallbackContext());
+                    startStabilizationCycle(progress.getCallbackContext());
+                    return memoryDbClientProxyClient.injectCredentialsAndInvokeV2(awsRequest, memoryDbClientProxyClient.client()::updateCluster);
+                }))
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
                     try {
-                        final Cluster cluster = getCluster(proxy, client, model);
+                        if (!isDescribeNeeded(client, model, context)) {
+                            // the poll still counts, with the last status seen
+                            observeStatus(context, context.getLastObservedStatus());
+                            return false;
+                        }
+                        final Cluster cluster = getCluster(proxy, client, model, context);
+                        observeStatus(context, cluster.status());
                         boolean isStabilized = STABILIZED_STATUS.contains(cluster.status());
                         if (isStabilized == false) {
                             return false;
                         }
                         final ResourceModel postUpdateResourceState = Translator.translateFromReadResponse(cluster);
-                        if (isUpdateNeeded(desiredResourceState, postUpdateResourceState, fieldType, logger)) {
+                        if (fieldTypes.stream().anyMatch(fieldType -> isUpdateNeeded(desiredResourceState, postUpdateResourceState, fieldType, logger))) {
                             /* Resource has been stabilized, however update operation has not been completed.
                              * This is possible, since an update operation can fail to service failures (Example: requested
                              * node type is not currently available).
                              */
                             throw MemoryDbException.builder().message(UPDATE_FAILED_WITH_STABILIZATION_SUCCESS).build();
                         }
+                        ClusterEventWatcher.reset(context);
                         return true;
                     } catch (final ClusterNotFoundException e) {
                         throw new CfnNotFoundException(e);
@@ -165,7 +183,25 @@ public class UpdateHandler extends BaseHandlerStd {
                         throw e;
                     }
                 })
-                .progress();
+                .done((awsRequest, awsResponse, client, model, context) -> {
+                    checkpoint(context, fieldTypes);
+                    return ProgressEvent.progress(model, context);
+                });
+    }
+
+    /**
+     * Records a stabilized update step, so that later invocations of the same update go straight to the next one.
+     */
+    private static void checkpoint(final CallbackContext callbackContext,
+                                   final Set<ClusterUpdateFieldType> fieldTypes) {
+        if (callbackContext.getPendingUpdateFields() != null) {
+            callbackContext.getPendingUpdateFields().removeAll(fieldTypes);
+        }
+        callbackContext.getCompletedUpdateSteps().add(getCallGraphSuffix(fieldTypes));
+    }
+
+    private static String getCallGraphSuffix(final Set<ClusterUpdateFieldType> fieldTypes) {
+        return fieldTypes.stream().map(ClusterUpdateFieldType::name).collect(Collectors.joining("-"));
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> tagResource(final AmazonWebServicesClientProxy proxy,
@@ -174,7 +210,7 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                         final ResourceHandlerRequest<ResourceModel> request,
                                                                         final Logger logger) {
         if (!isUpdateNeeded(request.getDesiredResourceTags(), request.getPreviousResourceTags()) || !isArnPresent(progress.getResourceModel())) {
-            logger.log("No tags to update.");
+            HandlerLogger.debug(logger, () -> "No tags to update.");
             return listTags(proxy, progress, proxyClient);
         }
 
@@ -196,12 +232,14 @@ public class UpdateHandler extends BaseHandlerStd {
         final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
 
         if (CollectionUtils.isNotEmpty(tagsToRemove)) {
-            UntagResourceResponse untagResourceResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToUntagResourceRequest(arn, tagsToRemove), proxyClient.client()::untagResource);
+            invalidateDescribedCluster(callbackContext);
+            UntagResourceResponse untagResourceResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToUntagResourceRequest(arn, tagsToRemove), proxyClient.client()::untagResource);
             model.setTags(translateTagsFromSdk(untagResourceResponse.tagList()));
         }
 
         if (CollectionUtils.isNotEmpty(tagsToAdd)) {
-            TagResourceResponse tagResourceResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToTagResourceRequest(arn, tagsToAdd), proxyClient.client()::tagResource);
+            invalidateDescribedCluster(callbackContext);
+            TagResourceResponse tagResourceResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToTagResourceRequest(arn, tagsToAdd), proxyClient.client()::tagResource);
             model.setTags(translateTagsFromSdk(tagResourceResponse.tagList()));
         }
 
@@ -110,7 +110,7 @@ public class AbstractTestBase {
             @Override
             public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(RequestT request,
                                                                                                                                                Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
-                throw new UnsupportedOperationException();
+                return proxy.injectCredentialsAndInvokeV2Async(request, requestFunction);
             }
 
             @Override
@@ -0,0 +1,116 @@
+package software.amazon.memorydb.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.awssdk.services.memorydb.model.Tag;
+import software.amazon.awssdk.services.memorydb.model.TagResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+public class ApiCallMetricsTest extends AbstractTestBase {
+
+    // every reading of the clock is 5ms after the previous one
+    private final AtomicLong clock = new AtomicLong();
+    private ApiCallMetrics metrics;
+    private MemoryDbClient sdkClient;
+    private ProxyClient<MemoryDbClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        metrics = new ApiCallMetrics(() -> clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(5)));
+        final AmazonWebServicesClientProxy proxy =
+                new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(MemoryDbClient.class);
+        proxyClient = metrics.wrap(MOCK_PROXY(proxy, sdkClient));
+    }
+
+    @Test
+    public void wrap_RecordsCallsThrottlesAndErrors() {
+        final ListTagsRequest listTagsRequest = ListTagsRequest.builder().resourceArn("arn").build();
+        final TagResourceRequest tagResourceRequest = TagResourceRequest.builder().resourceArn("arn").build();
+        when(sdkClient.listTags(any(ListTagsRequest.class)))
+                .thenReturn(ListTagsResponse.builder().tagList(Tag.builder().key("k").value("v").build()).build());
+        doThrow(MemoryDbException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build()).build())
+                .doThrow(MemoryDbException.builder().statusCode(500).build())
+                .when(sdkClient).tagResource(any(TagResourceRequest.class));
+
+        proxyClient.injectCredentialsAndInvokeV2(listTagsRequest, proxyClient.client()::listTags);
+        proxyClient.injectCredentialsAndInvokeV2(listTagsRequest, proxyClient.client()::listTags);
+        assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(tagResourceRequest, proxyClient.client()::tagResource))
+                .isInstanceOf(MemoryDbException.class);
+        assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(tagResourceRequest, proxyClient.client()::tagResource))
+                .isInstanceOf(MemoryDbException.class);
+
+        assertThat(metrics.getCalls("ListTags")).isEqualTo(2);
+        assertThat(metrics.getThrottles("ListTags")).isEqualTo(0);
+        assertThat(metrics.getCalls("TagResource")).isEqualTo(2);
+        assertThat(metrics.getThrottles("TagResource")).isEqualTo(1);
+
+        final String emf = metrics.toEmf("UpdateHandler", 1000L);
+        assertThat(emf).doesNotContain("\n");
+        assertThat(emf).startsWith("{\"_aws\":{\"Timestamp\":1000,\"CloudWatchMetrics\":[{\"Namespace\":\"" + ApiCallMetrics.NAMESPACE + "\"");
+        assertThat(emf).contains("\"ResourceType\":\"" + ResourceModel.TYPE_NAME + "\",\"Handler\":\"UpdateHandler\"");
+        assertThat(emf).contains("\"ApiCalls\":4,\"ApiLatency\":20,\"ApiThrottles\":1,\"ApiErrors\":1,\"RequestBytes\":12,\"ResponseBytes\":4");
+        assertThat(emf).contains("\"ListTags\":{\"calls\":2,\"latencyMs\":10,\"maxLatencyMs\":5,\"throttles\":0,\"errors\":0,\"requestBytes\":6,\"responseBytes\":4}");
+        assertThat(emf).contains("\"TagResource\":{\"calls\":2,\"latencyMs\":10,\"maxLatencyMs\":5,\"throttles\":1,\"errors\":1,\"requestBytes\":6,\"responseBytes\":0}");
+    }
+
+    @Test
+    public void toEmf_ReportsPermitWaitByFamily() {
+        final AtomicLong rateLimiterClock = new AtomicLong();
+        final ApiRateLimiter rateLimiter = new ApiRateLimiter(
+                Collections.singletonMap(ApiRateLimiter.ApiFamily.TAGGING, 2.0),
+                Collections.singletonMap(ApiRateLimiter.ApiFamily.TAGGING, 1),
+                rateLimiterClock::get,
+                rateLimiterClock::addAndGet);
+        // as the handlers do, permits are taken before the calls are recorded
+        final ProxyClient<MemoryDbClient> limitedClient =
+                rateLimiter.wrap(proxyClient, InvocationDeadline.forInvocation(() -> 0L), metrics::recordPermitWait);
+        final ListTagsRequest listTagsRequest = ListTagsRequest.builder().resourceArn("arn").build();
+        when(sdkClient.listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+
+        for (int i = 0; i < 3; i++) {
+            limitedClient.injectCredentialsAndInvokeV2(listTagsRequest, limitedClient.client()::listTags);
+        }
+
+        final String emf = metrics.toEmf("ReadHandler", 1000L);
+        assertThat(emf).contains("{\"Name\":\"PermitWait\",\"Unit\":\"Milliseconds\"}");
+        assertThat(emf).contains("\"ApiCalls\":3,");
+        // a burst of 1 at 2 permits per second: the second and third calls wait 500ms each
+        assertThat(emf).contains("\"PermitWait\":1000,\"PermitWaitMs\":{\"TAGGING\":1000},\"Apis\":{");
+    }
+
+    @Test
+    public void toEmf_NothingWithoutCalls() {
+        assertThat(metrics.toEmf("ReadHandler", 1000L)).isNull();
+    }
+
+    @Test
+    public void payloadSize_SumsFieldValues() {
+        assertThat(ApiCallMetrics.payloadSize(null)).isEqualTo(0L);
+        assertThat(ApiCallMetrics.payloadSize(ListTagsRequest.builder().resourceArn("arn").build())).isEqualTo(3L);
+        assertThat(ApiCallMetrics.payloadSize(ListTagsResponse.builder()
+                .tagList(Tag.builder().key("key").value("value").build(), Tag.builder().key("k").build())
+                .build())).isEqualTo(9L);
+        assertThat(ApiCallMetrics.apiName(ListTagsRequest.builder().build())).isEqualTo("ListTags");
+    }
+}
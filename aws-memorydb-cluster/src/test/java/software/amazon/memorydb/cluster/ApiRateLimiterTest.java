@@ -0,0 +1,107 @@
+package software.amazon.memorydb.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
+import software.amazon.awssdk.services.memorydb.model.TagResourceRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateClusterRequest;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+public class ApiRateLimiterTest extends AbstractTestBase {
+
+    private final AtomicLong clock = new AtomicLong();
+    // no other waits in the invocation, the deadline is far
+    private final InvocationDeadline deadline = InvocationDeadline.forInvocation(() -> 0L);
+    private ApiRateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setup() {
+        final Map<ApiRateLimiter.ApiFamily, Double> rates = new EnumMap<>(ApiRateLimiter.ApiFamily.class);
+        rates.put(ApiRateLimiter.ApiFamily.DESCRIBE, 2.0);
+        rates.put(ApiRateLimiter.ApiFamily.MUTATING, 0.0);
+        final Map<ApiRateLimiter.ApiFamily, Integer> bursts = Collections.singletonMap(ApiRateLimiter.ApiFamily.DESCRIBE, 2);
+        // sleeping advances the virtual clock
+        rateLimiter = new ApiRateLimiter(rates, bursts, clock::get, clock::addAndGet);
+    }
+
+    @Test
+    public void apiFamily_OfRequest() {
+        assertThat(ApiRateLimiter.ApiFamily.of(DescribeClustersRequest.builder().build())).isEqualTo(ApiRateLimiter.ApiFamily.DESCRIBE);
+        assertThat(ApiRateLimiter.ApiFamily.of(ListTagsRequest.builder().build())).isEqualTo(ApiRateLimiter.ApiFamily.TAGGING);
+        assertThat(ApiRateLimiter.ApiFamily.of(TagResourceRequest.builder().build())).isEqualTo(ApiRateLimiter.ApiFamily.TAGGING);
+        assertThat(ApiRateLimiter.ApiFamily.of(UpdateClusterRequest.builder().build())).isEqualTo(ApiRateLimiter.ApiFamily.MUTATING);
+    }
+
+    @Test
+    public void acquire_SpreadsBurstAtConfiguredRate() {
+        final DescribeClustersRequest request = DescribeClustersRequest.builder().build();
+
+        // the burst is served right away, then permits come every 1/rate
+        assertThat(rateLimiter.acquire(request, deadline)).isEqualTo(Duration.ZERO);
+        assertThat(rateLimiter.acquire(request, deadline)).isEqualTo(Duration.ZERO);
+        assertThat(rateLimiter.acquire(request, deadline)).isEqualTo(Duration.ofMillis(500));
+        assertThat(rateLimiter.acquire(request, deadline)).isEqualTo(Duration.ofMillis(500));
+        assertThat(rateLimiter.getPermits(ApiRateLimiter.ApiFamily.DESCRIBE)).isEqualTo(4);
+
+        // an idle bucket refills up to the burst
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(rateLimiter.acquire(request, deadline)).isEqualTo(Duration.ZERO);
+        assertThat(rateLimiter.acquire(request, deadline)).isEqualTo(Duration.ZERO);
+        assertThat(rateLimiter.acquire(request, deadline)).isEqualTo(Duration.ofMillis(500));
+
+        // families don't share tokens, and a rate of 0 disables pacing
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.acquire(UpdateClusterRequest.builder().build(), deadline)).isEqualTo(Duration.ZERO);
+        }
+    }
+
+    @Test
+    public void acquire_ThrottlesInsteadOfWaitingPastTheDeadline() {
+        final DescribeClustersRequest request = DescribeClustersRequest.builder().build();
+        final InvocationDeadline nearDeadline = new InvocationDeadline(() -> 0L, Duration.ofMillis(400));
+
+        assertThat(rateLimiter.acquire(request, nearDeadline)).isEqualTo(Duration.ZERO);
+        assertThat(rateLimiter.acquire(request, nearDeadline)).isEqualTo(Duration.ZERO);
+        // the next permit comes in 500ms
+        assertThatThrownBy(() -> rateLimiter.acquire(request, nearDeadline)).isInstanceOf(CfnThrottlingException.class);
+        assertThat(clock.get()).isZero();
+    }
+
+    @Test
+    public void wrap_TakesPermitBeforeEveryCall() {
+        final AmazonWebServicesClientProxy proxy =
+                new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final MemoryDbClient sdkClient = mock(MemoryDbClient.class);
+        final Map<ApiRateLimiter.ApiFamily, Duration> waits = new EnumMap<>(ApiRateLimiter.ApiFamily.class);
+        final ProxyClient<MemoryDbClient> proxyClient =
+                rateLimiter.wrap(MOCK_PROXY(proxy, sdkClient), deadline, (family, wait) -> waits.merge(family, wait, Duration::plus));
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class))).thenReturn(DescribeClustersResponse.builder().build());
+
+        for (int i = 0; i < 3; i++) {
+            proxyClient.injectCredentialsAndInvokeV2(DescribeClustersRequest.builder().build(), proxyClient.client()::describeClusters);
+        }
+
+        assertThat(proxyClient.client()).isSameAs(sdkClient);
+        assertThat(rateLimiter.getPermits(ApiRateLimiter.ApiFamily.DESCRIBE)).isEqualTo(3);
+        assertThat(waits).containsOnlyKeys(ApiRateLimiter.ApiFamily.DESCRIBE).containsEntry(ApiRateLimiter.ApiFamily.DESCRIBE, Duration.ofMillis(500));
+        assertThat(ApiRateLimiter.fromEnvironment().getPermits(ApiRateLimiter.ApiFamily.DESCRIBE)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,58 @@
+package software.amazon.memorydb.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+
+public class ClientBuilderTest {
+
+    private static final String REGION_PROPERTY = "aws.region";
+    private static final int INVOCATIONS = 20;
+
+    private static String previousRegion;
+
+    @BeforeAll
+    public static void setup() {
+        // the client resolves its region when it is built
+        previousRegion = System.getProperty(REGION_PROPERTY);
+        System.setProperty(REGION_PROPERTY, "us-east-1");
+    }
+
+    @AfterAll
+    public static void tear_down() {
+        if (previousRegion == null) {
+            System.clearProperty(REGION_PROPERTY);
+        } else {
+            System.setProperty(REGION_PROPERTY, previousRegion);
+        }
+    }
+
+    @Test
+    public void getClient_ReturnsSameClientAcrossThreads() throws Exception {
+        final MemoryDbClient client = ClientBuilder.getClient();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Callable<MemoryDbClient>> calls = new ArrayList<>();
+            for (int i = 0; i < INVOCATIONS; i++) {
+                calls.add(ClientBuilder::getClient);
+            }
+            for (final Future<MemoryDbClient> result : executor.invokeAll(calls)) {
+                assertThat(result.get()).isSameAs(client);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
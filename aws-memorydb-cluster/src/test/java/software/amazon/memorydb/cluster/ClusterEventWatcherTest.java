@@ -0,0 +1,143 @@
+package software.amazon.memorydb.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.DescribeEventsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeEventsResponse;
+import software.amazon.awssdk.services.memorydb.model.Event;
+import software.amazon.awssdk.services.memorydb.model.SourceType;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+public class ClusterEventWatcherTest extends AbstractTestBase {
+
+    private static final Instant NOW = Instant.parse("2021-10-01T10:00:00Z");
+
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<MemoryDbClient> proxyClient;
+    private MemoryDbClient sdkClient;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(MemoryDbClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+    }
+
+    @Test
+    public void isDescribeNeeded_OnlyOnTerminalEvents() {
+        final ResourceModel model = getDesiredTestResourceModel();
+        final CallbackContext callbackContext = new CallbackContext();
+        final Event started = event("Cluster node replacement started", NOW.plusSeconds(60));
+        final Event completed = event("Cluster modification complete", NOW.plusSeconds(120));
+        final ArgumentCaptor<DescribeEventsRequest> captor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
+        when(sdkClient.describeEvents(captor.capture()))
+                .thenReturn(DescribeEventsResponse.builder().build())
+                .thenReturn(DescribeEventsResponse.builder().events(started).build())
+                .thenReturn(DescribeEventsResponse.builder().events(completed, started).build())
+                .thenReturn(DescribeEventsResponse.builder().events(completed).build());
+
+        // first poll of the cycle describes the cluster
+        ClusterEventWatcher.startCycle(callbackContext, NOW);
+        assertThat(ClusterEventWatcher.isDescribeNeeded(proxyClient, model, callbackContext, NOW)).isTrue();
+
+        assertThat(ClusterEventWatcher.isDescribeNeeded(proxyClient, model, callbackContext, NOW)).isFalse();
+        assertThat(ClusterEventWatcher.isDescribeNeeded(proxyClient, model, callbackContext, NOW)).isFalse();
+        assertThat(ClusterEventWatcher.isDescribeNeeded(proxyClient, model, callbackContext, NOW)).isTrue();
+        assertThat(callbackContext.getPollsWithoutDescribe()).isEqualTo(0);
+        // the window moved past the terminal event, it doesn't trigger another describe
+        assertThat(ClusterEventWatcher.isDescribeNeeded(proxyClient, model, callbackContext, NOW)).isFalse();
+
+        verify(sdkClient, times(4)).describeEvents(any(DescribeEventsRequest.class));
+        final Instant cycleStart = NOW.minus(ClusterEventWatcher.SKEW_ALLOWANCE);
+        assertThat(captor.getAllValues()).extracting(DescribeEventsRequest::startTime).containsExactly(
+                cycleStart, cycleStart, started.date().plusMillis(1), completed.date().plusMillis(1));
+        final DescribeEventsRequest request = captor.getValue();
+        assertThat(request.sourceName()).isEqualTo(CLUSTER_NAME);
+        assertThat(request.sourceType()).isEqualTo(SourceType.CLUSTER);
+
+        ClusterEventWatcher.reset(callbackContext);
+        assertThat(callbackContext.getEventsSince()).isNull();
+    }
+
+    @Test
+    public void isDescribeNeeded_IgnoresEventsOfEarlierOperations() {
+        final ResourceModel model = getDesiredTestResourceModel();
+        final CallbackContext callbackContext = new CallbackContext();
+        // the previous update step completed before this one started
+        final Instant cycleStart = NOW.minus(ClusterEventWatcher.SKEW_ALLOWANCE);
+        when(sdkClient.describeEvents(any(DescribeEventsRequest.class))).thenReturn(DescribeEventsResponse.builder()
+                .events(event("Cluster modification complete", cycleStart.minusSeconds(1)))
+                .build());
+
+        ClusterEventWatcher.startCycle(callbackContext, NOW);
+        assertThat(ClusterEventWatcher.isDescribeNeeded(proxyClient, model, callbackContext, NOW)).isTrue();
+        assertThat(ClusterEventWatcher.isDescribeNeeded(proxyClient, model, callbackContext, NOW)).isFalse();
+        assertThat(callbackContext.getEventsSince()).isEqualTo(cycleStart.toEpochMilli());
+
+        verify(sdkClient).describeEvents(any(DescribeEventsRequest.class));
+    }
+
+    @Test
+    public void isDescribeNeeded_SeesEventsDatedBeforeTheMutatingCall() {
+        final ResourceModel model = getDesiredTestResourceModel();
+        final CallbackContext callbackContext = new CallbackContext();
+        // the service clock is behind ours, the event of this operation is dated before the call was made
+        final Event completed = event("Cluster modification complete", NOW.minusSeconds(3));
+        when(sdkClient.describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(completed).build());
+
+        ClusterEventWatcher.startCycle(callbackContext, NOW);
+        assertThat(ClusterEventWatcher.isDescribeNeeded(proxyClient, model, callbackContext, NOW)).isTrue();
+        assertThat(ClusterEventWatcher.isDescribeNeeded(proxyClient, model, callbackContext, NOW)).isTrue();
+        assertThat(callbackContext.getEventsSince()).isEqualTo(completed.date().toEpochMilli() + 1);
+
+        verify(sdkClient).describeEvents(any(DescribeEventsRequest.class));
+    }
+
+    @Test
+    public void isTerminal_MatchesWholeWords() {
+        assertThat(ClusterEventWatcher.isTerminal(event("Cluster created", NOW))).isTrue();
+        assertThat(ClusterEventWatcher.isTerminal(event("Failed to apply the parameter group", NOW))).isTrue();
+        assertThat(ClusterEventWatcher.isTerminal(event("Cluster is now available.", NOW))).isTrue();
+        assertThat(ClusterEventWatcher.isTerminal(event("Node 0001-001 is unavailable", NOW))).isFalse();
+        assertThat(ClusterEventWatcher.isTerminal(event("Failover to replica node 0001-002 started", NOW))).isFalse();
+        assertThat(ClusterEventWatcher.isTerminal(Event.builder().date(NOW).build())).isFalse();
+    }
+
+    @Test
+    public void isDescribeNeeded_FallsBackToDescribe() {
+        final ResourceModel model = getDesiredTestResourceModel();
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setEventsSince(NOW.toEpochMilli());
+        when(sdkClient.describeEvents(any(DescribeEventsRequest.class))).thenReturn(DescribeEventsResponse.builder().build());
+
+        for (int i = 0; i < ClusterEventWatcher.MAX_POLLS_WITHOUT_DESCRIBE; i++) {
+            assertThat(ClusterEventWatcher.isDescribeNeeded(proxyClient, model, callbackContext, NOW)).isFalse();
+        }
+        assertThat(ClusterEventWatcher.isDescribeNeeded(proxyClient, model, callbackContext, NOW)).isTrue();
+
+        doThrow(new RuntimeException("throttled")).when(sdkClient).describeEvents(any(DescribeEventsRequest.class));
+        assertThat(ClusterEventWatcher.isDescribeNeeded(proxyClient, model, callbackContext, NOW)).isTrue();
+
+        verify(sdkClient, times(ClusterEventWatcher.MAX_POLLS_WITHOUT_DESCRIBE + 1)).describeEvents(any(DescribeEventsRequest.class));
+    }
+
+    private static Event event(final String message, final Instant date) {
+        return Event.builder().sourceName(CLUSTER_NAME).sourceType(SourceType.CLUSTER).message(message).date(date).build();
+    }
+}
@@ -0,0 +1,179 @@
+package software.amazon.memorydb.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.memorydb.MemoryDbAsyncClient;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.DescribeEngineVersionsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeEngineVersionsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.EngineVersionInfo;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroup;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroupNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+public class ClusterPreflightTest extends AbstractTestBase {
+
+    private static final String PARAMETER_GROUP_NAME = "test-pg";
+
+    private final CreateHandler handler = new CreateHandler(HandlerEnvironment.DEFAULT.withSleeper(millis -> { }));
+    private MemoryDbClient sdkClient;
+    private ProxyClient<MemoryDbClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy =
+                new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(MemoryDbClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+    }
+
+    @AfterEach
+    public void tear_down() {
+        verify(sdkClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(sdkClient);
+    }
+
+    @Test
+    public void validate_ReportsAllProblemsAtOnce() {
+        final ResourceModel model = getModel();
+        when(sdkClient.describeSubnetGroups(any(DescribeSubnetGroupsRequest.class)))
+                .thenThrow(SubnetGroupNotFoundException.builder().build());
+        stubFamilies("memorydb_redis6", "memorydb_redis7");
+
+        assertThatThrownBy(() -> ClusterPreflight.validate(handler, proxyClient, model, new CallbackContext()))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("subnet group " + SUBNET_GROUP_NAME + " does not exist")
+                .hasMessageContaining("family memorydb_redis6 is not compatible");
+
+        verify(sdkClient).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+        verify(sdkClient).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
+        verify(sdkClient).describeEngineVersions(any(DescribeEngineVersionsRequest.class));
+    }
+
+    @Test
+    public void validate_SkipsReferencesAlreadyValidated() {
+        final ResourceModel model = getModel();
+        final CallbackContext callbackContext = new CallbackContext();
+        when(sdkClient.describeSubnetGroups(any(DescribeSubnetGroupsRequest.class)))
+                .thenReturn(DescribeSubnetGroupsResponse.builder().build());
+        stubFamilies("memorydb_redis6", "memorydb_redis6");
+
+        ClusterPreflight.validate(handler, proxyClient, model, callbackContext);
+        assertThat(callbackContext.isPreflightPassed()).isTrue();
+        assertThat(callbackContext.getValidatedReferences()).contains("subnet group " + SUBNET_GROUP_NAME);
+
+        // the open-access ACL is never looked up, the subnet group was validated already
+        callbackContext.setPreflightPassed(false);
+        ClusterPreflight.validate(handler, proxyClient, model, callbackContext);
+        assertThat(callbackContext.isPreflightPassed()).isTrue();
+
+        // once passed, nothing is looked up anymore
+        ClusterPreflight.validate(handler, proxyClient, model, callbackContext);
+
+        verify(sdkClient).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+        verify(sdkClient, times(2)).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
+        verify(sdkClient, times(2)).describeEngineVersions(any(DescribeEngineVersionsRequest.class));
+    }
+
+    @Test
+    public void validate_ReportsThrottlingAndAccessErrors() {
+        final ResourceModel model = getModel();
+        // the lookups are not skipped as if they had passed
+        doThrow(serviceException(429, "ThrottlingException")).when(sdkClient).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+        assertThatThrownBy(() -> ClusterPreflight.validate(handler, proxyClient, model, new CallbackContext()))
+                .isInstanceOf(CfnThrottlingException.class);
+
+        doThrow(serviceException(403, "AccessDeniedException")).when(sdkClient).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+        final CallbackContext callbackContext = new CallbackContext();
+        assertThatThrownBy(() -> ClusterPreflight.validate(handler, proxyClient, model, callbackContext))
+                .isInstanceOf(CfnGeneralServiceException.class);
+        assertThat(callbackContext.isPreflightPassed()).isFalse();
+
+        verify(sdkClient, times(ThrottlingRetryPolicy.MAX_ATTEMPTS_PER_CALL + 1)).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+    }
+
+    @Test
+    public void validate_LooksUpConcurrentlyThroughTheAsyncClient() {
+        final ResourceModel model = getModel();
+        final MemoryDbAsyncClient asyncClient = mock(MemoryDbAsyncClient.class);
+        final CompletableFuture<DescribeSubnetGroupsResponse> throttled = new CompletableFuture<>();
+        throttled.completeExceptionally(serviceException(429, "ThrottlingException"));
+        when(asyncClient.describeSubnetGroups(any(DescribeSubnetGroupsRequest.class))).thenReturn(throttled);
+        when(asyncClient.describeParameterGroups(any(DescribeParameterGroupsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeParameterGroupsResponse.builder()
+                        .parameterGroups(ParameterGroup.builder().name(PARAMETER_GROUP_NAME).family("memorydb_redis6").build())
+                        .build()));
+        when(asyncClient.describeEngineVersions(any(DescribeEngineVersionsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeEngineVersionsResponse.builder()
+                        .engineVersions(EngineVersionInfo.builder().engineVersion(ENGINE_VERSION).parameterGroupFamily("memorydb_redis7").build())
+                        .build()));
+        // the throttled lookup is retried through the sync client
+        when(sdkClient.describeSubnetGroups(any(DescribeSubnetGroupsRequest.class)))
+                .thenThrow(SubnetGroupNotFoundException.builder().build());
+        final CreateHandler concurrentHandler = new CreateHandler(HandlerEnvironment.DEFAULT
+                .withSleeper(millis -> { })
+                .withConcurrentRead(() -> asyncClient));
+
+        assertThatThrownBy(() -> ClusterPreflight.validate(concurrentHandler, proxyClient, model, new CallbackContext()))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("subnet group " + SUBNET_GROUP_NAME + " does not exist")
+                .hasMessageContaining("family memorydb_redis6 is not compatible");
+
+        verify(asyncClient).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+        verify(asyncClient).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
+        verify(asyncClient).describeEngineVersions(any(DescribeEngineVersionsRequest.class));
+        verify(sdkClient).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+        verifyNoMoreInteractions(asyncClient);
+    }
+
+    private static MemoryDbException serviceException(final int statusCode, final String errorCode) {
+        return MemoryDbException.builder()
+                .statusCode(statusCode)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).build())
+                .build();
+    }
+
+    private ResourceModel getModel() {
+        final ResourceModel model = getDesiredTestResourceModel();
+        model.setParameterGroupName(PARAMETER_GROUP_NAME);
+        model.setEngineVersion(ENGINE_VERSION);
+        return model;
+    }
+
+    private void stubFamilies(final String parameterGroupFamily, final String engineFamily) {
+        when(sdkClient.describeParameterGroups(any(DescribeParameterGroupsRequest.class)))
+                .thenReturn(DescribeParameterGroupsResponse.builder()
+                        .parameterGroups(ParameterGroup.builder().name(PARAMETER_GROUP_NAME).family(parameterGroupFamily).build())
+                        .build());
+        when(sdkClient.describeEngineVersions(any(DescribeEngineVersionsRequest.class)))
+                .thenReturn(DescribeEngineVersionsResponse.builder()
+                        .engineVersions(EngineVersionInfo.builder().engineVersion(ENGINE_VERSION).parameterGroupFamily(engineFamily).build())
+                        .build());
+    }
+}
@@ -1,12 +1,14 @@
 package software.amazon.memorydb.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Fail.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -29,10 +31,14 @@ import software.amazon.awssdk.services.memorydb.model.CreateClusterRequest;
 import software.amazon.awssdk.services.memorydb.model.CreateClusterResponse;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroupNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -152,6 +158,66 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(sdkClient, never()).serviceName();
     }
 
+    @Test
+    public void handleRequest_StabilizationRetriesThrottledDescribe() {
+        final Cluster cluster = getTestCluster();
+        handler = new CreateHandler(HandlerEnvironment.DEFAULT.withSleeper(millis -> { }));
+
+        when(proxyClient.client().createCluster(any(CreateClusterRequest.class))).thenReturn(getCreateClusterReponse());
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenThrow(throttling())
+                .thenReturn(DescribeClustersResponse.builder().clusters(cluster).build());
+        when(proxyClient.client().listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(getDesiredTestResourceModel()).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_StabilizationReportsThrottling() {
+        handler = new CreateHandler(HandlerEnvironment.DEFAULT.withSleeper(millis -> { }));
+
+        when(proxyClient.client().createCluster(any(CreateClusterRequest.class))).thenReturn(getCreateClusterReponse());
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenThrow(throttling());
+
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(getDesiredTestResourceModel()).build();
+
+        // reported as throttling, not as a failed stabilization
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnThrottlingException.class);
+
+        verify(sdkClient, times(ThrottlingRetryPolicy.MAX_ATTEMPTS_PER_CALL)).describeClusters(any(DescribeClustersRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_PreflightFailsBeforeCreate() {
+        handler = new CreateHandler(HandlerEnvironment.DEFAULT.withPreflightValidation(true));
+
+        when(proxyClient.client().describeSubnetGroups(any(DescribeSubnetGroupsRequest.class)))
+                .thenThrow(SubnetGroupNotFoundException.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(getDesiredTestResourceModel()).build();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("subnet group " + SUBNET_GROUP_NAME + " does not exist");
+
+        verify(sdkClient, never()).createCluster(any(CreateClusterRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    private static MemoryDbException throttling() {
+        return MemoryDbException.builder().statusCode(429).message("Rate exceeded").build();
+    }
+
     private CreateClusterResponse getCreateClusterReponse() {
         return CreateClusterResponse.builder().cluster(Cluster.builder().name(CLUSTER_NAME).description(CLUSTER_DESCRIPTION).status(CREATING_STATUS).nodeType(NODE_TYPE)
                                     .numberOfShards(NUM_SHARDS).subnetGroupName(SUBNET_GROUP_NAME).securityGroups(getSecurityGroupMemberships(SECURITY_GROUP_IDS))
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -26,6 +27,7 @@ import software.amazon.awssdk.services.memorydb.model.DeleteClusterRequest;
 import software.amazon.awssdk.services.memorydb.model.DeleteClusterResponse;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
 import software.amazon.awssdk.services.memorydb.model.SnapshotAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -87,6 +89,24 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_StabilizationRetriesThrottledDescribe() {
+        final DeleteHandler handler = new DeleteHandler(HandlerEnvironment.DEFAULT.withSleeper(millis -> { }));
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(getDesiredTestResourceModel()).build();
+
+        doThrow(MemoryDbException.builder().statusCode(429).message("Rate exceeded").build())
+                .doThrow(ClusterNotFoundException.class)
+                .when(proxyClient.client()).describeClusters(any(DescribeClustersRequest.class));
+        doReturn(DeleteClusterResponse.builder().cluster(getTestCluster().toBuilder().status("deleting").build()).build())
+                .when(proxyClient.client()).deleteCluster(any(DeleteClusterRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient, times(2)).describeClusters(any(DescribeClustersRequest.class));
+    }
+
     @Test
     public void handleRequest_FailedWithResourceNotFound() {
         final DeleteHandler handler = new DeleteHandler();
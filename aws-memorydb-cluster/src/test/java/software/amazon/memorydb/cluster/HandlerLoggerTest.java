@@ -0,0 +1,70 @@
+package software.amazon.memorydb.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+public class HandlerLoggerTest {
+
+    private final List<String> lines = new ArrayList<>();
+    private final Logger logger = lines::add;
+
+    @Test
+    public void level_OfName() {
+        assertThat(HandlerLogger.Level.of("debug")).isEqualTo(HandlerLogger.Level.DEBUG);
+        assertThat(HandlerLogger.Level.of(" WARN ")).isEqualTo(HandlerLogger.Level.WARN);
+        assertThat(HandlerLogger.Level.of("verbose")).isEqualTo(HandlerLogger.Level.INFO);
+        assertThat(HandlerLogger.Level.of(null)).isEqualTo(HandlerLogger.Level.INFO);
+    }
+
+    @Test
+    public void log_SkipsDisabledLevelsWithoutBuildingTheMessage() {
+        HandlerLogger.log(HandlerLogger.Level.INFO, logger, HandlerLogger.Level.DEBUG, () -> {
+            throw new AssertionError("debug message built while DEBUG is disabled");
+        });
+        HandlerLogger.log(HandlerLogger.Level.INFO, logger, HandlerLogger.Level.INFO, () -> "info");
+        HandlerLogger.log(HandlerLogger.Level.INFO, logger, HandlerLogger.Level.WARN, () -> "warn");
+        HandlerLogger.log(HandlerLogger.Level.INFO, null, HandlerLogger.Level.INFO, () -> "no logger");
+
+        assertThat(lines).containsExactly("info", "warn");
+
+        HandlerLogger.log(HandlerLogger.Level.DEBUG, logger, HandlerLogger.Level.DEBUG, () -> "debug");
+        assertThat(lines).containsExactly("info", "warn", "debug");
+    }
+
+    @Test
+    public void error_BoundsTheStackTraceUnlessDebug() {
+        final StackTraceElement[] frames = new StackTraceElement[HandlerLogger.MAX_STACK_FRAMES + 5];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new StackTraceElement("Handler", "method" + i, "Handler.java", i + 1);
+        }
+        final RuntimeException e = new IllegalStateException("boom");
+        e.setStackTrace(frames);
+
+        HandlerLogger.error(HandlerLogger.Level.INFO, logger, "Request Failed : ", e);
+        HandlerLogger.error(HandlerLogger.Level.DEBUG, logger, "Request Failed : ", e);
+
+        assertThat(lines.get(0)).startsWith("Request Failed : java.lang.IllegalStateException: boom\n");
+        assertThat(lines.get(0).split("\n")).hasSize(1 + HandlerLogger.MAX_STACK_FRAMES + 1);
+        assertThat(lines.get(0)).endsWith("\n... 5 more");
+        assertThat(lines.get(1).split("\n")).hasSize(1 + HandlerLogger.MAX_STACK_FRAMES + 5);
+    }
+
+    @Test
+    public void render_BoundsLongModels() {
+        final ResourceModel model = ResourceModel.builder().description(new String(new char[5000]).replace('\0', 'x')).build();
+
+        final String rendered = HandlerLogger.render(model);
+
+        assertThat(rendered).hasSize(HandlerLogger.MAX_RENDERED_LENGTH + "...(".length()
+                + String.valueOf(model.toString().length() - HandlerLogger.MAX_RENDERED_LENGTH).length() + " more characters)".length());
+        assertThat(HandlerLogger.render(null)).isEqualTo("null");
+        assertThat(HandlerLogger.render(ResourceModel.builder().clusterName("c").build()))
+                .isEqualTo(ResourceModel.builder().clusterName("c").build().toString());
+    }
+}
@@ -6,10 +6,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.Collection;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -17,6 +19,7 @@ import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.Cluster;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.Shard;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -71,4 +74,30 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels().get(0).getClusterName()).isEqualTo(request.getDesiredResourceState().getClusterName());
         assertThat(response.getResourceModels().get(0)).isEqualTo(expectedResourceModel);
     }
+
+    @Test
+    public void handleRequest_ListsWithoutShardDetails() {
+        final ListHandler handler = new ListHandler();
+
+        final Cluster cluster = getTestCluster().toBuilder().shards((Collection<Shard>) null).build();
+        final ArgumentCaptor<DescribeClustersRequest> captor = ArgumentCaptor.forClass(DescribeClustersRequest.class);
+        when(proxyClient.client().describeClusters(captor.capture())).thenReturn(DescribeClustersResponse.builder().clusters(cluster).build());
+
+        final ResourceHandlerRequest<ResourceModel> request =
+                ResourceHandlerRequest.<ResourceModel>builder().nextToken("TEST_MARKER").build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getClusterName()).isEqualTo(CLUSTER_NAME);
+        assertThat(response.getResourceModels().get(0).getNumShards()).isEqualTo(NUM_SHARDS);
+        assertThat(response.getResourceModels().get(0).getNumReplicasPerShard()).isNull();
+
+        final DescribeClustersRequest describeClustersRequest = captor.getValue();
+        assertThat(describeClustersRequest.showShardDetails()).isFalse();
+        assertThat(describeClustersRequest.maxResults()).isEqualTo(Translator.LIST_MAX_RESULTS);
+        assertThat(describeClustersRequest.nextToken()).isEqualTo("TEST_MARKER");
+    }
 }
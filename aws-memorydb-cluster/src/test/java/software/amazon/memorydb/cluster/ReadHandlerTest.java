@@ -3,9 +3,12 @@ package software.amazon.memorydb.cluster;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Fail.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -13,6 +16,7 @@ import static org.mockito.Mockito.when;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
@@ -22,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import software.amazon.awssdk.services.memorydb.MemoryDbAsyncClient;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.Cluster;
 import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
@@ -62,6 +67,29 @@ public class ReadHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(sdkClient);
     }
 
+    @Test
+    public void describeClusters_ReusesClusterDescribedInInvocation() {
+        final ReadHandler handler = new ReadHandler();
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceModel model = getDesiredTestResourceModel();
+        final DescribeClustersResponse describeClustersResponse = DescribeClustersResponse.builder().clusters(getTestCluster()).build();
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenReturn(describeClustersResponse);
+
+        final Cluster cluster = handler.getCluster(proxy, proxyClient, model, callbackContext);
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.describeClusters(proxy, ProgressEvent.progress(model, callbackContext), proxyClient);
+
+        assertThat(response.getResourceModel()).isEqualTo(Translator.translateFromReadResponse(cluster));
+        verify(proxyClient.client()).describeClusters(any(DescribeClustersRequest.class));
+
+        handler.invalidateDescribedCluster(callbackContext);
+        assertThat(handler.getDescribedCluster(model, callbackContext)).isNull();
+        handler.describeClusters(proxy, ProgressEvent.progress(model, callbackContext), proxyClient);
+
+        verify(proxyClient.client(), times(2)).describeClusters(any(DescribeClustersRequest.class));
+        assertThat(handler.getDescribedCluster(model, callbackContext)).isEqualTo(cluster);
+    }
+
     @Test
     public void handleRequest_SimpleSuccess() {
         final ReadHandler handler = new ReadHandler();
@@ -135,4 +163,57 @@ public class ReadHandlerTest extends AbstractTestBase {
             assertThat(e.getCause() instanceof ClusterNotFoundException).isTrue();
         }
     }
+
+    @Test
+    public void handleRequest_ConcurrentReadSuccess() {
+        final String arn = "arn:aws:memorydb:us-east-1:123456789012:cluster/" + CLUSTER_NAME;
+        final Cluster cluster = getTestCluster().toBuilder().arn(arn).build();
+        final List<Tag> tags = Arrays.asList(Tag.builder().key("service").value("memorydb").build());
+        final ResourceModel expectedResourceModel = getResourceModel(cluster);
+        expectedResourceModel.setTags(Translator.translateTags(tags));
+
+        final MemoryDbAsyncClient asyncClient = mock(MemoryDbAsyncClient.class);
+        when(asyncClient.describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeClustersResponse.builder().clusters(cluster).build()));
+        when(asyncClient.listTags(any(ListTagsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsResponse.builder().tagList(tags).build()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readConcurrently(asyncClient);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expectedResourceModel);
+        verify(asyncClient).describeClusters(any(DescribeClustersRequest.class));
+        verify(asyncClient).listTags(any(ListTagsRequest.class));
+        verify(sdkClient, never()).describeClusters(any(DescribeClustersRequest.class));
+        verify(sdkClient, never()).listTags(any(ListTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ConcurrentReadListsTagsOfDescribedArn() {
+        final Cluster cluster = getTestCluster();
+        final MemoryDbAsyncClient asyncClient = mock(MemoryDbAsyncClient.class);
+        when(asyncClient.describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DescribeClustersResponse.builder().clusters(cluster).build()));
+        when(asyncClient.listTags(any(ListTagsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListTagsResponse.builder().build()));
+        when(sdkClient.listTags(any(ListTagsRequest.class))).thenReturn(ListTagsResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readConcurrently(asyncClient);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getResourceModel(cluster));
+        verify(sdkClient).listTags(argThat((ListTagsRequest listTagsRequest) ->
+                CLUSTER_ARN.equals(listTagsRequest.resourceArn())));
+        verify(sdkClient, never()).describeClusters(any(DescribeClustersRequest.class));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> readConcurrently(final MemoryDbAsyncClient asyncClient) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getDesiredTestResourceModel())
+                .awsPartition("aws").region("us-east-1").awsAccountId("123456789012")
+                .build();
+
+        return new ReadHandler(HandlerEnvironment.DEFAULT.withConcurrentRead(() -> asyncClient))
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
 }
@@ -0,0 +1,116 @@
+package software.amazon.memorydb.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+public class StabilizationDelayTest {
+
+    // Former constant stabilization delay
+    private static final Duration CONSTANT_DELAY = Duration.ofSeconds(60);
+
+    // Time the service takes to apply each kind of update, used by the virtual clock below
+    private static final Map<ClusterUpdateFieldType, Duration> COMPLETION_TIMES = new EnumMap<>(ClusterUpdateFieldType.class);
+
+    static {
+        for (final ClusterUpdateFieldType fieldType : ClusterUpdateFieldType.values()) {
+            COMPLETION_TIMES.put(fieldType, Duration.ofSeconds(15));
+        }
+        COMPLETION_TIMES.put(ClusterUpdateFieldType.NODE_TYPE, Duration.ofMinutes(20));
+        COMPLETION_TIMES.put(ClusterUpdateFieldType.ENGINE_VERSION, Duration.ofMinutes(15));
+        COMPLETION_TIMES.put(ClusterUpdateFieldType.REPLICA_CONFIGURATION, Duration.ofMinutes(10));
+        COMPLETION_TIMES.put(ClusterUpdateFieldType.SHARD_CONFIGURATION, Duration.ofMinutes(25));
+    }
+
+    @Test
+    public void nextDelay_SavesLatencyForMetadataUpdatesWithoutDelayingOthers() {
+        for (final ClusterUpdateFieldType fieldType : ClusterUpdateFieldType.values()) {
+            final StabilizationDelay.Profile profile = StabilizationDelay.Profile.forUpdate(EnumSet.of(fieldType));
+            final Duration completion = COMPLETION_TIMES.get(fieldType);
+
+            final Duration adaptive = detectedAt(new StabilizationDelay(profile, () -> "updating", () -> 0.5), completion);
+            final Duration constant = detectedAt(attempt -> CONSTANT_DELAY, completion);
+            final Duration saved = constant.minus(adaptive);
+
+            // completion is never noticed later than one maximum delay after it happened
+            assertThat(adaptive.minus(completion)).isLessThanOrEqualTo(profile.getMaxDelay());
+            if (ClusterUpdatePlanner.isDisruptive(fieldType)) {
+                assertThat(profile).isEqualTo(StabilizationDelay.Profile.SCALING);
+                // never noticed later than with the constant delay
+                assertThat(saved).isGreaterThanOrEqualTo(Duration.ZERO);
+            } else {
+                assertThat(profile).isEqualTo(StabilizationDelay.Profile.METADATA);
+                assertThat(saved).isGreaterThanOrEqualTo(Duration.ofSeconds(45));
+            }
+        }
+    }
+
+    @Test
+    public void nextDelay_BacksOffGeometricallyUpToMaxDelay() {
+        final Delay delay = new StabilizationDelay(StabilizationDelay.Profile.METADATA, () -> null, () -> 0.5);
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(delay.nextDelay(7)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(delay.nextDelay(100)).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    public void nextDelay_AppliesBoundedJitter() {
+        assertThat(new StabilizationDelay(StabilizationDelay.Profile.METADATA, () -> null, () -> 0.0).nextDelay(5))
+                .isEqualTo(Duration.ofSeconds(16));
+        assertThat(new StabilizationDelay(StabilizationDelay.Profile.METADATA, () -> null, () -> 1.0).nextDelay(5))
+                .isEqualTo(Duration.ofSeconds(24));
+        assertThat(new StabilizationDelay(StabilizationDelay.Profile.METADATA, () -> null, () -> 1.0).nextDelay(100))
+                .isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    public void nextDelay_SlowerObservedStatusWins() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final StabilizationDelay delay = StabilizationDelay.of(StabilizationDelay.Profile.METADATA, callbackContext);
+        assertThat(delay.currentProfile()).isEqualTo(StabilizationDelay.Profile.METADATA);
+
+        callbackContext.setLastObservedStatus("snapshotting");
+        assertThat(delay.currentProfile()).isEqualTo(StabilizationDelay.Profile.SCALING);
+
+        callbackContext.setLastObservedStatus("creating");
+        assertThat(delay.currentProfile()).isEqualTo(StabilizationDelay.Profile.CREATE);
+
+        final StabilizationDelay createDelay = StabilizationDelay.of(StabilizationDelay.Profile.CREATE, callbackContext);
+        callbackContext.setLastObservedStatus("deleting");
+        assertThat(createDelay.currentProfile()).isEqualTo(StabilizationDelay.Profile.CREATE);
+    }
+
+    @Test
+    public void nextDelay_TimesOut() {
+        final Delay delay = new StabilizationDelay(StabilizationDelay.Profile.CREATE, () -> null, () -> 0.5);
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(delay.nextDelay(Integer.MAX_VALUE)).isEqualTo(Duration.ZERO);
+    }
+
+    /**
+     * Replays the proxy polling loop on a virtual clock: the first check happens right after the call, then after
+     * every delay, and returns the time of the first check that sees the completed update.
+     */
+    private static Duration detectedAt(final Delay delay, final Duration completion) {
+        Duration now = Duration.ZERO;
+        int attempt = 1;
+        while (now.compareTo(completion) < 0) {
+            final Duration next = delay.nextDelay(attempt++);
+            assertThat(next).isGreaterThan(Duration.ZERO);
+            now = now.plus(next);
+        }
+        return now;
+    }
+}
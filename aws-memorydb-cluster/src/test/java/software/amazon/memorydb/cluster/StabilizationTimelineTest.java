@@ -0,0 +1,52 @@
+package software.amazon.memorydb.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+public class StabilizationTimelineTest {
+
+    @Test
+    public void record_CoalescesPollsOfTheSameStatus() {
+        final StabilizationTimeline timeline = new StabilizationTimeline();
+        assertThat(timeline.hasEntries()).isFalse();
+        assertThat(timeline.summarize(0L)).isNull();
+
+        timeline.record("creating", 0L);
+        timeline.record("creating", 60_000L);
+        timeline.record("creating", 120_000L);
+        timeline.record("available", 180_000L);
+
+        assertThat(timeline.getEntries()).containsExactly(
+                new StabilizationTimeline.Entry(0L, "creating", 3),
+                new StabilizationTimeline.Entry(180_000L, "available", 1));
+        assertThat(timeline.summarize(181_000L)).isEqualTo("creating for 180s (3 polls), available for 1s (1 poll)");
+    }
+
+    @Test
+    public void record_KeepsTheFirstEntryWhenBounded() {
+        final StabilizationTimeline timeline = new StabilizationTimeline();
+        timeline.record(null, 0L);
+        for (int i = 1; i <= StabilizationTimeline.MAX_ENTRIES * 2; i++) {
+            timeline.record(i % 2 == 0 ? "modifying" : "available", i * 1000L);
+        }
+
+        assertThat(timeline.getEntries()).hasSize(StabilizationTimeline.MAX_ENTRIES);
+        assertThat(timeline.getEntries().get(0)).isEqualTo(new StabilizationTimeline.Entry(0L, StabilizationTimeline.UNKNOWN_STATUS, 1));
+        assertThat(timeline.getEntries().get(StabilizationTimeline.MAX_ENTRIES - 1).getStatus()).isEqualTo("modifying");
+    }
+
+    @Test
+    public void timeline_SurvivesCallbackContextSerialization() throws Exception {
+        final ObjectMapper mapper = new ObjectMapper();
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.getStabilizationTimeline().record("creating", 1000L);
+        callbackContext.getStabilizationTimeline().record("creating", 2000L);
+
+        final StabilizationTimeline timeline = mapper.readValue(
+                mapper.writeValueAsString(callbackContext.getStabilizationTimeline()), StabilizationTimeline.class);
+
+        assertThat(timeline).isEqualTo(callbackContext.getStabilizationTimeline());
+    }
+}
@@ -116,6 +116,90 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(sdkClient, atLeastOnce()).serviceName();
     }
 
+    @Test
+    public void handleRequest_CoalescesMetadataUpdates() {
+        final ResourceModel previousTestResourceModel = getDesiredTestResourceModel();
+        final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
+        desiredTestResourceModel.setStatus("available");
+        desiredTestResourceModel.setDescription("New description");
+        desiredTestResourceModel.setMaintenanceWindow("05:00–13:00 UTC");
+        desiredTestResourceModel.setSnapshotWindow("11:00-12:00");
+        desiredTestResourceModel.setSnsTopicArn("test-sns-topic-arn-updated");
+        desiredTestResourceModel.setNodeType("db.r6g.xlarge");
+
+        final ArgumentCaptor<UpdateClusterRequest> captor = ArgumentCaptor.forClass(UpdateClusterRequest.class);
+        when(proxyClient.client().updateCluster(captor.capture())).thenReturn(UpdateClusterResponse.builder().build());
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder().clusters(getTestCluster(desiredTestResourceModel)).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = buildRequest(desiredTestResourceModel, previousTestResourceModel);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(2)).updateCluster(any(UpdateClusterRequest.class));
+        verify(proxyClient.client(), times(2)).describeClusters(any(DescribeClustersRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+
+        final List<UpdateClusterRequest> requests = captor.getAllValues();
+        assertThat(requests.get(0).toBuilder().overrideConfiguration((AwsRequestOverrideConfiguration) null).build())
+                .isEqualTo(UpdateClusterRequest.builder()
+                        .clusterName(CLUSTER_NAME)
+                        .description("New description")
+                        .maintenanceWindow("05:00–13:00 UTC")
+                        .snapshotWindow("11:00-12:00")
+                        .snsTopicArn("test-sns-topic-arn-updated")
+                        .snsTopicStatus(SNS_TOPIC_STATUS)
+                        .build());
+        assertThat(requests.get(1).toBuilder().overrideConfiguration((AwsRequestOverrideConfiguration) null).build())
+                .isEqualTo(UpdateClusterRequest.builder().clusterName(CLUSTER_NAME).nodeType("db.r6g.xlarge").build());
+    }
+
+    @Test
+    public void handleRequest_ResumesFromCheckpoint() {
+        final ResourceModel previousTestResourceModel = getDesiredTestResourceModel();
+        final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
+        desiredTestResourceModel.setStatus("available");
+        desiredTestResourceModel.setDescription("New description");
+        desiredTestResourceModel.setNodeType("db.r6g.xlarge");
+
+        // the metadata step was completed by a previous invocation
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setPendingUpdateFields(Sets.newSet(ClusterUpdateFieldType.NODE_TYPE));
+        callbackContext.getCompletedUpdateSteps().add(ClusterUpdateFieldType.DESCRIPTION.name());
+
+        final ArgumentCaptor<UpdateClusterRequest> captor = ArgumentCaptor.forClass(UpdateClusterRequest.class);
+        when(proxyClient.client().updateCluster(captor.capture())).thenReturn(UpdateClusterResponse.builder().build());
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder().clusters(getTestCluster(desiredTestResourceModel)).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = buildRequest(desiredTestResourceModel, previousTestResourceModel);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client()).updateCluster(any(UpdateClusterRequest.class));
+        verify(proxyClient.client()).describeClusters(any(DescribeClustersRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+        assertThat(captor.getValue().toBuilder().overrideConfiguration((AwsRequestOverrideConfiguration) null).build())
+                .isEqualTo(UpdateClusterRequest.builder().clusterName(CLUSTER_NAME).nodeType("db.r6g.xlarge").build());
+        assertThat(callbackContext.getPendingUpdateFields()).isEmpty();
+        assertThat(callbackContext.getCompletedUpdateSteps()).containsExactly(
+                ClusterUpdateFieldType.DESCRIPTION.name(), ClusterUpdateFieldType.NODE_TYPE.name());
+    }
+
+    @Test
+    public void planUpdates_DisruptiveFieldsAreSeparateSteps() {
+        final Set<ClusterUpdateFieldType> modified = Sets.newSet(ClusterUpdateFieldType.DESCRIPTION, ClusterUpdateFieldType.ACL_NAME,
+                ClusterUpdateFieldType.PARAMETER_GROUP_NAME, ClusterUpdateFieldType.ENGINE_VERSION, ClusterUpdateFieldType.SHARD_CONFIGURATION);
+
+        final List<Set<ClusterUpdateFieldType>> plan = ClusterUpdatePlanner.plan(modified::contains);
+
+        assertThat(plan).containsExactly(
+                Sets.newSet(ClusterUpdateFieldType.DESCRIPTION, ClusterUpdateFieldType.ACL_NAME),
+                Sets.newSet(ClusterUpdateFieldType.ENGINE_VERSION, ClusterUpdateFieldType.PARAMETER_GROUP_NAME),
+                Sets.newSet(ClusterUpdateFieldType.SHARD_CONFIGURATION));
+        assertThat(ClusterUpdatePlanner.plan(fieldType -> false)).isEmpty();
+    }
+
     @Test
     public void handleRequest_Failure_ClusterNotFound() {
         final ResourceModel previousTestResourceModel = getDesiredTestResourceModel();
@@ -0,0 +1,228 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Paces the MemoryDB calls made from a container with one token bucket per API family, so that a burst of handler
+ * invocations is spread out instead of being throttled by the service and retried.
+ *
+ * Rates are in permits per second and can be set per family with the MEMORYDB_{FAMILY}_RATE and
+ * MEMORYDB_{FAMILY}_BURST environment variables, e.g. MEMORYDB_DESCRIBE_RATE. A rate of 0 disables pacing for the
+ * family.
+ *
+ * A permit that would come after the deadline of the invocation is not waited for: the call is reported as throttled
+ * and CloudFormation retries the handler later.
+ */
+final class ApiRateLimiter {
+
+  enum ApiFamily {
+    // Describe* and List* calls, except tags
+    DESCRIBE(10.0, 20),
+    // Create*, Update*, Delete* and other calls that change a resource
+    MUTATING(2.0, 5),
+    // ListTags, TagResource and UntagResource
+    TAGGING(5.0, 10);
+
+    private final double defaultRate;
+    private final int defaultBurst;
+
+    ApiFamily(final double defaultRate, final int defaultBurst) {
+      this.defaultRate = defaultRate;
+      this.defaultBurst = defaultBurst;
+    }
+
+    static ApiFamily of(final AwsRequest request) {
+      final String name = request.getClass().getSimpleName();
+      if (name.startsWith("ListTags") || name.startsWith("TagResource") || name.startsWith("UntagResource")) {
+        return TAGGING;
+      }
+      if (name.startsWith("Describe") || name.startsWith("List")) {
+        return DESCRIBE;
+      }
+      return MUTATING;
+    }
+  }
+
+  // Shared by all invocations in the container, like the client
+  static final ApiRateLimiter SHARED = fromEnvironment();
+
+  private final Map<ApiFamily, TokenBucket> buckets = new EnumMap<>(ApiFamily.class);
+  private final LongConsumer sleeper;
+
+  ApiRateLimiter(final Map<ApiFamily, Double> rates,
+      final Map<ApiFamily, Integer> bursts,
+      final LongSupplier nanoClock,
+      final LongConsumer sleeper) {
+    for (final ApiFamily family : ApiFamily.values()) {
+      buckets.put(family, new TokenBucket(
+          rates.getOrDefault(family, family.defaultRate),
+          bursts.getOrDefault(family, family.defaultBurst),
+          nanoClock));
+    }
+    this.sleeper = sleeper;
+  }
+
+  static ApiRateLimiter fromEnvironment() {
+    final Map<ApiFamily, Double> rates = new EnumMap<>(ApiFamily.class);
+    final Map<ApiFamily, Integer> bursts = new EnumMap<>(ApiFamily.class);
+    for (final ApiFamily family : ApiFamily.values()) {
+      final String rate = System.getenv("MEMORYDB_" + family.name() + "_RATE");
+      final String burst = System.getenv("MEMORYDB_" + family.name() + "_BURST");
+      try {
+        if (rate != null) {
+          rates.put(family, Double.parseDouble(rate.trim()));
+        }
+        if (burst != null) {
+          bursts.put(family, Integer.parseInt(burst.trim()));
+        }
+      } catch (final NumberFormatException e) {
+        // keep the defaults of the family
+        rates.remove(family);
+        bursts.remove(family);
+      }
+    }
+    return new ApiRateLimiter(rates, bursts, System::nanoTime, ApiRateLimiter::sleep);
+  }
+
+  /**
+   * Takes a permit for the request, waiting for it if the bucket of its family is empty.
+   * @return the time waited
+   * @throws CfnThrottlingException if the permit comes after the deadline
+   */
+  Duration acquire(final AwsRequest request, final InvocationDeadline deadline) {
+    final TokenBucket bucket = buckets.get(ApiFamily.of(request));
+    final long waitNanos = bucket.reserve();
+    if (waitNanos > 0) {
+      if (!deadline.allows(TimeUnit.NANOSECONDS.toMillis(waitNanos))) {
+        // the permit stays reserved, so the callers queued behind it are not moved ahead
+        throw new CfnThrottlingException(request.getClass().getSimpleName(), new IllegalStateException(
+            "No permit within the deadline of the invocation, it comes in " + Duration.ofNanos(waitNanos)));
+      }
+      sleeper.accept(waitNanos);
+    }
+    return Duration.ofNanos(waitNanos);
+  }
+
+  /**
+   * Returns the number of permits handed out for the family.
+   */
+  long getPermits(final ApiFamily family) {
+    return buckets.get(family).permits.get();
+  }
+
+  /**
+   * Returns a proxy client that takes a permit before every call made through the given one, within the deadline, and
+   * reports the time waited for it by family.
+   */
+  ProxyClient<MemoryDbClient> wrap(final ProxyClient<MemoryDbClient> proxyClient,
+      final InvocationDeadline deadline,
+      final BiConsumer<ApiFamily, Duration> waits) {
+    final Consumer<AwsRequest> permit = request -> waits.accept(ApiFamily.of(request), acquire(request, deadline));
+    return new ProxyClient<MemoryDbClient>() {
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+      injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        permit.accept(request);
+        return proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+      }
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+      injectCredentialsAndInvokeV2Async(final RequestT request,
+          final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        permit.accept(request);
+        return proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction);
+      }
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+      injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+        permit.accept(request);
+        return proxyClient.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+      }
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+      injectCredentialsAndInvokeV2InputStream(final RequestT request,
+          final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        permit.accept(request);
+        return proxyClient.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+      }
+
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+      injectCredentialsAndInvokeV2Bytes(final RequestT request,
+          final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        permit.accept(request);
+        return proxyClient.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+      }
+
+      @Override
+      public MemoryDbClient client() {
+        return proxyClient.client();
+      }
+    };
+  }
+
+  private static void sleep(final long nanos) {
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Token bucket kept as the theoretical arrival time of the next permit, which lets callers borrow against future
+   * tokens: a caller that finds the bucket empty reserves the next token and is told how long to wait for it, so
+   * concurrent callers are spaced out by 1/rate.
+   */
+  static final class TokenBucket {
+    private final long nanosPerPermit;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong permits = new AtomicLong();
+    private long nextArrival;
+
+    TokenBucket(final double permitsPerSecond, final int burst, final LongSupplier nanoClock) {
+      this.nanosPerPermit = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0L;
+      this.burstNanos = (Math.max(1, burst) - 1) * nanosPerPermit;
+      this.nanoClock = nanoClock;
+      this.nextArrival = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a token and returns the nanoseconds to wait before using it.
+     */
+    synchronized long reserve() {
+      permits.incrementAndGet();
+      if (nanosPerPermit == 0L) {
+        return 0L;
+      }
+      final long now = nanoClock.getAsLong();
+      nextArrival = Math.max(nextArrival, now);
+      final long wait = Math.max(0L, nextArrival - burstNanos - now);
+      nextArrival += nanosPerPermit;
+      return wait;
+    }
+  }
+}
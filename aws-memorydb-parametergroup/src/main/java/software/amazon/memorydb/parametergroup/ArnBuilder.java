@@ -0,0 +1,33 @@
+package software.amazon.memorydb.parametergroup;
+
+import com.amazonaws.util.StringUtils;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Builds MemoryDB resource ARNs from the request environment, so that they don't have to be described.
+ */
+final class ArnBuilder {
+
+  private static final String ARN_FORMAT = "arn:%s:memorydb:%s:%s:%s/%s";
+
+  private ArnBuilder() {
+  }
+
+  /**
+   * Builds the ARN of a resource
+   * @param request handler request holding the partition, region and account id
+   * @param resourceType resource type as it appears in the ARN, e.g. parametergroup
+   * @param resourceName resource name
+   * @return the ARN, or null if any of its parts is missing from the request
+   */
+  static String build(final ResourceHandlerRequest<?> request, final String resourceType, final String resourceName) {
+    if (StringUtils.isNullOrEmpty(request.getAwsPartition())
+        || StringUtils.isNullOrEmpty(request.getRegion())
+        || StringUtils.isNullOrEmpty(request.getAwsAccountId())
+        || StringUtils.isNullOrEmpty(resourceName)) {
+      return null;
+    }
+    return String.format(ARN_FORMAT, request.getAwsPartition(), request.getRegion(), request.getAwsAccountId(),
+        resourceType, resourceName);
+  }
+}
@@ -25,6 +25,9 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
@@ -41,23 +44,66 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             .delay(Duration.ofSeconds(60))
             .build();
     protected static final int CALLBACK_DELAY = 30;
+    protected static final int SCAN_CALLBACK_DELAY = 1;
     protected static final BiFunction<ResourceModel, ProxyClient<MemoryDbClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
     protected static String STABILIZED_STATUS = "in-sync";
     protected static String DEFAULT_PARAMETER_GROUP_NAME_PREFIX = "default.";
 
+    private final HandlerEnvironment environment;
+    // Waits on throttling retries and the rate limiter end before the deadline of the invocation
+    private InvocationDeadline deadline;
+    // Throttling retries are budgeted per handler invocation
+    private ThrottlingRetryPolicy throttlingRetryPolicy;
+
+    protected BaseHandlerStd() {
+        this(HandlerEnvironment.DEFAULT);
+    }
+
+    BaseHandlerStd(final HandlerEnvironment environment) {
+        this.environment = environment;
+        startInvocation();
+    }
+
+    /**
+     * For a handler run nested in another one, e.g. the read that ends a create: it shares the environment and the
+     * deadline and retry budget of the handler invocation it runs in.
+     */
+    BaseHandlerStd(final BaseHandlerStd parent) {
+        this.environment = parent.environment;
+        this.deadline = parent.deadline;
+        this.throttlingRetryPolicy = parent.throttlingRetryPolicy;
+    }
+
+    private void startInvocation() {
+        deadline = InvocationDeadline.forInvocation(environment.getClock());
+        throttlingRetryPolicy = ThrottlingRetryPolicy.forInvocation(environment.getSleeper(), deadline);
+    }
+
+    HandlerEnvironment getEnvironment() {
+        return environment;
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        startInvocation();
+        // Calls are recorded as sent to the service, after waiting on the rate limiter
+        final ApiCallMetrics apiCallMetrics = ApiCallMetrics.forInvocation();
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        try {
+            return summarizeStabilization(handleRequest(
+                    proxy,
+                    request,
+                    context,
+                    ApiRateLimiter.SHARED.wrap(apiCallMetrics.wrap(proxy.newProxy(ClientBuilder::getClient)), deadline, apiCallMetrics::recordPermitWait),
+                    logger
+            ), context, logger);
+        } finally {
+            apiCallMetrics.log(logger, getClass().getSimpleName());
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -67,6 +113,23 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProxyClient<MemoryDbClient> proxyClient,
             final Logger logger);
 
+    /**
+     * Adds the stabilization timeline of the operation to the event that completes it.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> summarizeStabilization(
+            final ProgressEvent<ResourceModel, CallbackContext> event,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+        final StabilizationTimeline timeline = callbackContext.getStabilizationTimeline();
+        if (event.isInProgress() || timeline == null || !timeline.hasEntries()) {
+            return event;
+        }
+        final String summary = "Stabilization: " + timeline.summarize(System.currentTimeMillis());
+        HandlerLogger.info(logger, () -> summary);
+        event.setMessage(event.getMessage() != null ? event.getMessage() + ". " + summary : summary);
+        return event;
+    }
+
     protected CallChain.Completed<DescribeParameterGroupsRequest,
             DescribeParameterGroupsResponse,
             MemoryDbClient,
@@ -88,7 +151,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected <T> T handleExceptions(Supplier<T> call) {
         try {
-            return call.get();
+            return throttlingRetryPolicy.call(call);
         } catch (final InvalidParameterValueException | InvalidParameterCombinationException e) {
             throw new CfnInvalidRequestException(e);
         } catch (final ParameterGroupAlreadyExistsException e) {
@@ -105,6 +168,24 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
     }
 
+    /**
+     * Waits for a call made ahead through the async client on the first use of the returned supplier, and makes the
+     * call again through the given one on later uses, i.e. when {@link #handleExceptions} retries it after throttling.
+     */
+    protected static <T> Supplier<T> joinOrCall(final CompletableFuture<T> inFlight, final Supplier<T> call) {
+        final AtomicBoolean joined = new AtomicBoolean();
+        return () -> {
+            if (joined.getAndSet(true)) {
+                return call.get();
+            }
+            try {
+                return inFlight.join();
+            } catch (final CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        };
+    }
+
     protected boolean isArnPresent(ResourceModel model) {
         return model.getARN() != null && !model.getARN().isEmpty();
     }
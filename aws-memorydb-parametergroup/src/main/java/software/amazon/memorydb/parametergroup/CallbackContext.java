@@ -1,5 +1,7 @@
 package software.amazon.memorydb.parametergroup;
 
+import java.util.Set;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -9,4 +11,9 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 public class CallbackContext extends StdCallbackContext {
     private String nextToken;
     private boolean clusterStabilized;
+    // Clusters attached to the parameter group that are not in sync yet, null until the first scan completes
+    private Set<String> pendingClusters;
+
+    // Cluster sync states observed while waiting for the update to apply, summarized in the event that completes it
+    private StabilizationTimeline stabilizationTimeline = new StabilizationTimeline();
 }
@@ -0,0 +1,93 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.Cluster;
+import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Tracks the clusters using a parameter group until all of them applied its new parameters.
+ *
+ * The first pass pages through all the clusters, without shard details, and keeps in the callback context the names
+ * of the clusters attached to the group that are not in sync yet. Later callbacks only describe those clusters, unless
+ * there are too many of them, in which case paging through all the clusters again is cheaper.
+ */
+final class ClusterSyncScanner {
+
+    // Pages read per callback, a scan of a larger account resumes from the next token on the following callback
+    static final int MAX_PAGES_PER_CALLBACK = 5;
+    // Above this number of pending clusters a full scan takes fewer calls than describing each of them
+    static final int MAX_CLUSTERS_DESCRIBED_INDIVIDUALLY = 10;
+
+    private ClusterSyncScanner() {
+    }
+
+    /**
+     * Makes progress on the scan and returns true once all the clusters attached to the parameter group are in sync.
+     */
+    static boolean isInSync(final ProxyClient<MemoryDbClient> proxyClient,
+                            final String parameterGroupName,
+                            final String syncedStatus,
+                            final CallbackContext callbackContext) {
+        final Set<String> pendingClusters = callbackContext.getPendingClusters();
+        final boolean scanning = pendingClusters == null
+                || callbackContext.getNextToken() != null
+                || pendingClusters.size() > MAX_CLUSTERS_DESCRIBED_INDIVIDUALLY;
+        if (scanning) {
+            if (!scan(proxyClient, parameterGroupName, syncedStatus, callbackContext)) {
+                return false;
+            }
+        } else {
+            pendingClusters.removeIf(clusterName -> isClusterInSync(proxyClient, clusterName, parameterGroupName, syncedStatus));
+        }
+        return callbackContext.getPendingClusters().isEmpty();
+    }
+
+    /**
+     * Reads the next pages of clusters and returns true once the last page has been read.
+     */
+    private static boolean scan(final ProxyClient<MemoryDbClient> proxyClient,
+                                final String parameterGroupName,
+                                final String syncedStatus,
+                                final CallbackContext callbackContext) {
+        if (callbackContext.getNextToken() == null) {
+            // new scan
+            callbackContext.setPendingClusters(new HashSet<>());
+        }
+        int pages = 0;
+        do {
+            final DescribeClustersResponse describeClustersResponse = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.translateToDescribeClustersRequest(callbackContext.getNextToken()), proxyClient.client()::describeClusters);
+            describeClustersResponse.clusters().stream()
+                    .filter(cluster -> isAttached(cluster, parameterGroupName) && !syncedStatus.equals(cluster.parameterGroupStatus()))
+                    .forEach(cluster -> callbackContext.getPendingClusters().add(cluster.name()));
+            callbackContext.setNextToken(describeClustersResponse.nextToken());
+        } while (callbackContext.getNextToken() != null && ++pages < MAX_PAGES_PER_CALLBACK);
+        return callbackContext.getNextToken() == null;
+    }
+
+    private static boolean isClusterInSync(final ProxyClient<MemoryDbClient> proxyClient,
+                                           final String clusterName,
+                                           final String parameterGroupName,
+                                           final String syncedStatus) {
+        try {
+            final DescribeClustersResponse describeClustersResponse = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.translateToDescribeClusterRequest(clusterName), proxyClient.client()::describeClusters);
+            return describeClustersResponse.clusters().stream()
+                    .noneMatch(cluster -> isAttached(cluster, parameterGroupName) && !syncedStatus.equals(cluster.parameterGroupStatus()));
+        } catch (final ClusterNotFoundException e) {
+            // a deleted cluster no longer waits for the parameter group
+            return true;
+        }
+    }
+
+    private static boolean isAttached(final Cluster cluster, final String parameterGroupName) {
+        return cluster.parameterGroupName() != null // could be null when the cluster is in create-failed state
+                && cluster.parameterGroupStatus() != null // same as above
+                && cluster.parameterGroupName().equals(parameterGroupName);
+    }
+}
@@ -21,6 +21,13 @@ public class CreateHandler extends BaseHandlerStd {
     public static final String ID_WRONG_FORMAT = "Name must begin with a letter; must contain only lowercase ASCII "
             + "letters, digits, and hyphens; and must not end with a hyphen or contain two consecutive hyphens.";
 
+    public CreateHandler() {
+    }
+
+    CreateHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -45,7 +52,7 @@ public class CreateHandler extends BaseHandlerStd {
         }
 
         return ProgressEvent.progress(desiredResourceState, callbackContext).then(progress -> createParameterGroup(proxy, proxyClient, progress, request.getDesiredResourceTags()))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> new ReadHandler(this).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createParameterGroup(final AmazonWebServicesClientProxy proxy,
@@ -0,0 +1,62 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+
+/**
+ * Default parameters of each parameter group family, indexed by parameter name and kept across warm invocations.
+ *
+ * A family is loaded with all its pages on first use and loaded again once its entry is older than the TTL.
+ */
+final class DefaultParametersCache {
+
+    // Default values only change with new engine versions, which come with a new family
+    static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private final Duration ttl;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    DefaultParametersCache(final Duration ttl, final LongSupplier clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the default parameters of the family, loading them if they are missing or expired.
+     *
+     * @param family parameter group family
+     * @param loader returns all the default parameters of a family, indexed by name
+     * @return default parameters indexed by name
+     */
+    Map<String, Parameter> get(final String family, final Function<String, Map<String, Parameter>> loader) {
+        final long now = clock.getAsLong();
+        final Entry entry = entries.get(family);
+        if (entry != null && now - entry.loadedAt < ttl.toMillis()) {
+            return entry.parameters;
+        }
+        final Entry loaded = new Entry(loader.apply(family), now);
+        entries.put(family, loaded);
+        return loaded.parameters;
+    }
+
+    void invalidateAll() {
+        entries.clear();
+    }
+
+    private static final class Entry {
+        private final Map<String, Parameter> parameters;
+        private final long loadedAt;
+
+        private Entry(final Map<String, Parameter> parameters, final long loadedAt) {
+            this.parameters = parameters;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -15,7 +15,7 @@ public class ListHandler extends BaseHandlerStd {
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(AmazonWebServicesClientProxy proxy, ResourceHandlerRequest<ResourceModel> request, CallbackContext callbackContext, ProxyClient<MemoryDbClient> proxyClient, Logger logger) {
         final DescribeParameterGroupsResponse response =
-                proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()), proxyClient.client()::describeParameterGroups);
+                proxyClient.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()), proxyClient.client()::describeParameterGroups);
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder().resourceModels(Translator.translateFromListResponse(response))
                 .nextToken(response.nextToken()).status(OperationStatus.SUCCESS).build();
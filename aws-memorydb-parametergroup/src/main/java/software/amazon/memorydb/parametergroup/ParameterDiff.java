@@ -0,0 +1,94 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Computes the parameters an update has to send, by comparing the desired parameters with the previous ones key by key.
+ *
+ * Template values may come as strings, numbers or booleans, so values are normalized before being compared: "1", 1 and
+ * 1.0 are the same value, and so are "True" and true.
+ */
+final class ParameterDiff {
+
+    // Largest number of parameters accepted by a single UpdateParameterGroup request
+    static final int MAX_PARAMETERS_PER_UPDATE = 20;
+
+    private ParameterDiff() {
+    }
+
+    /**
+     * Returns true if the desired parameters are provided and differ from the previous ones.
+     */
+    static boolean isModified(final Map<String, Object> desiredParams, final Map<String, Object> previousParams) {
+        return desiredParams != null && (!changed(desiredParams, previousParams).isEmpty() || !removed(desiredParams, previousParams).isEmpty());
+    }
+
+    /**
+     * Returns the desired parameters that are new or whose value changed, sorted by name, with the value to send.
+     */
+    static Map<String, String> changed(final Map<String, Object> desiredParams, final Map<String, Object> previousParams) {
+        final Map<String, String> changed = new TreeMap<>();
+        if (desiredParams == null) {
+            return changed;
+        }
+        desiredParams.forEach((name, value) -> {
+            if (previousParams == null || !previousParams.containsKey(name) || !isEqual(value, previousParams.get(name))) {
+                changed.put(name, String.valueOf(value));
+            }
+        });
+        return changed;
+    }
+
+    /**
+     * Returns the names of the previous parameters that are no longer desired, sorted by name.
+     */
+    static Set<String> removed(final Map<String, Object> desiredParams, final Map<String, Object> previousParams) {
+        final Set<String> removed = new TreeSet<>();
+        if (desiredParams == null || previousParams == null) {
+            return removed;
+        }
+        previousParams.keySet().stream().filter(name -> !desiredParams.containsKey(name)).forEach(removed::add);
+        return removed;
+    }
+
+    static boolean isEqual(final Object desiredValue, final Object previousValue) {
+        return Objects.equals(normalize(desiredValue), normalize(previousValue));
+    }
+
+    static String normalize(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        final String trimmed = String.valueOf(value).trim();
+        if ("true".equalsIgnoreCase(trimmed) || "false".equalsIgnoreCase(trimmed)) {
+            return trimmed.toLowerCase();
+        }
+        try {
+            return new BigDecimal(trimmed).stripTrailingZeros().toPlainString();
+        } catch (final NumberFormatException e) {
+            return trimmed;
+        }
+    }
+
+    /**
+     * Splits the parameters into consecutive chunks of at most the given size.
+     */
+    static <T> List<List<T>> chunk(final List<T> parameters, final int size) {
+        if (parameters.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < parameters.size(); from += size) {
+            chunks.add(parameters.subList(from, Math.min(from + size, parameters.size())));
+        }
+        return chunks;
+    }
+}
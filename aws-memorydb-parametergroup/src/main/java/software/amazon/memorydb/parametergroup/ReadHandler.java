@@ -1,7 +1,13 @@
 package software.amazon.memorydb.parametergroup;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.collections.CollectionUtils;
+import software.amazon.awssdk.services.memorydb.MemoryDbAsyncClient;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -11,6 +17,17 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
 
+    public ReadHandler() {
+    }
+
+    ReadHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
+    ReadHandler(final BaseHandlerStd parent) {
+        super(parent);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -20,9 +37,65 @@ public class ReadHandler extends BaseHandlerStd {
 
         this.logger = logger;
 
+        final String arn = ArnBuilder.build(request, "parametergroup", request.getDesiredResourceState().getParameterGroupName());
+        if (getEnvironment().isConcurrentRead() && arn != null) {
+            return readConcurrently(proxy, proxyClient, request.getDesiredResourceState(), arn, callbackContext);
+        }
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> describeParameterGroups(proxy, progress, proxyClient))
                 .then(progress -> listTags(proxy, progress, proxyClient))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
+
+    /**
+     * Describes the parameter group and lists the tags of the ARN built from the request at the same time, so that a
+     * read takes one round trip instead of two. The calls go through the proxy client for credentials, pacing and
+     * metrics, and are made again through the sync client when they are retried. Should the parameter group have
+     * another ARN, its tags are listed once it is described.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> readConcurrently(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<MemoryDbClient> proxyClient,
+        final ResourceModel model,
+        final String arn,
+        final CallbackContext callbackContext) {
+        final MemoryDbAsyncClient asyncClient = getEnvironment().getAsyncClient().get();
+        final ListTagsRequest listTagsRequest = Translator.translateToListTagsRequest(arn);
+        final AtomicReference<CompletableFuture<ListTagsResponse>> listTagsResponse = new AtomicReference<>();
+
+        return proxy.initiate("AWS-MemoryDB-ParameterGroup::DescribeAndListTags", proxyClient, model, callbackContext)
+                .translateToServiceRequest(Translator::translateToReadRequest)
+                .makeServiceCall((describeRequest, client) -> {
+                    final CompletableFuture<DescribeParameterGroupsResponse> describeResponse =
+                            client.injectCredentialsAndInvokeV2Async(describeRequest, asyncClient::describeParameterGroups);
+                    listTagsResponse.set(client.injectCredentialsAndInvokeV2Async(listTagsRequest, asyncClient::listTags));
+                    try {
+                        return handleExceptions(joinOrCall(describeResponse, () ->
+                                client.injectCredentialsAndInvokeV2(describeRequest, client.client()::describeParameterGroups)));
+                    } catch (RuntimeException e) {
+                        listTagsResponse.get().cancel(false);
+                        throw e;
+                    }
+                })
+                .done((describeRequest, describeResponse, client, resourceModel, context) -> {
+                    final ResourceModel describedModel = Translator.translateFromReadResponse(describeResponse);
+                    // the description may come from an earlier invocation, without tags in flight
+                    if (listTagsResponse.get() == null || !arn.equals(describedModel.getARN())) {
+                        if (listTagsResponse.get() != null) {
+                            listTagsResponse.get().cancel(false);
+                        }
+                        return ProgressEvent.progress(describedModel, context)
+                                .then(progress -> listTags(proxy, progress, client))
+                                .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
+                    }
+
+                    final ListTagsResponse tags = handleExceptions(joinOrCall(listTagsResponse.get(), () ->
+                            client.injectCredentialsAndInvokeV2(listTagsRequest, client.client()::listTags)));
+                    if (CollectionUtils.isNotEmpty(tags.tagList())) {
+                        describedModel.setTags(Translator.translateTags(tags.tagList()));
+                    }
+                    return ProgressEvent.defaultSuccessHandler(describedModel);
+                });
+    }
 }
@@ -0,0 +1,95 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+/**
+ * Retries calls the service throttled, waiting with decorrelated jitter between attempts: each wait is drawn between
+ * the base delay and three times the previous wait, up to a cap, so that handlers throttled together don't retry
+ * together.
+ *
+ * Retries are drawn from a budget that covers the whole handler invocation, and their waits must end before the
+ * deadline of the invocation, so that a busy account does not use up the invocation time. Once a call runs out of
+ * attempts, budget or time, the throttling error is reported as a CfnThrottlingException and CloudFormation retries
+ * the handler later.
+ */
+final class ThrottlingRetryPolicy {
+
+  static final Duration BASE_DELAY = Duration.ofMillis(200);
+  static final Duration MAX_DELAY = Duration.ofSeconds(5);
+  static final int MAX_ATTEMPTS_PER_CALL = 4;
+  static final int RETRY_BUDGET = 10;
+
+  private final DoubleSupplier random;
+  private final LongConsumer sleeper;
+  private final InvocationDeadline deadline;
+  private int retriesLeft = RETRY_BUDGET;
+
+  ThrottlingRetryPolicy(final DoubleSupplier random, final LongConsumer sleeper, final InvocationDeadline deadline) {
+    this.random = random;
+    this.sleeper = sleeper;
+    this.deadline = deadline;
+  }
+
+  /**
+   * Returns a policy with a fresh budget, to be used for one handler invocation.
+   */
+  static ThrottlingRetryPolicy forInvocation(final LongConsumer sleeper, final InvocationDeadline deadline) {
+    return new ThrottlingRetryPolicy(() -> ThreadLocalRandom.current().nextDouble(), sleeper, deadline);
+  }
+
+  <T> T call(final Supplier<T> call) {
+    long previousDelay = BASE_DELAY.toMillis();
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return call.get();
+      } catch (final CfnThrottlingException e) {
+        // a nested call already gave up
+        throw e;
+      } catch (final RuntimeException e) {
+        if (!isThrottling(e)) {
+          throw e;
+        }
+        final long delay = nextDelay(previousDelay);
+        if (attempt >= MAX_ATTEMPTS_PER_CALL || retriesLeft <= 0 || !deadline.allows(delay)) {
+          throw new CfnThrottlingException(e);
+        }
+        retriesLeft--;
+        sleeper.accept(delay);
+        previousDelay = delay;
+      }
+    }
+  }
+
+  int getRetriesLeft() {
+    return retriesLeft;
+  }
+
+  /**
+   * Decorrelated jitter: a random delay between the base delay and three times the previous one, capped.
+   */
+  long nextDelay(final long previousDelay) {
+    final long base = BASE_DELAY.toMillis();
+    final long upper = Math.max(base, previousDelay * 3);
+    return Math.min(MAX_DELAY.toMillis(), base + (long) ((upper - base) * random.getAsDouble()));
+  }
+
+  /**
+   * Returns whether the error, or any of its causes, is a throttling error returned by the service. Handlers may
+   * have already wrapped the service error in a handler exception.
+   */
+  static boolean isThrottling(final Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+      if (cause instanceof SdkServiceException && ((SdkServiceException) cause).isThrottlingException()) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -35,7 +35,10 @@ import java.util.stream.Stream;
  */
 
 public class Translator {
-  private static final int MAX_RECORDS_TO_DESCRIBE = 20;
+  // Largest page accepted by DescribeClusters
+  private static final int MAX_RECORDS_TO_DESCRIBE = 100;
+  // Largest page accepted by DescribeParameters
+  private static final int MAX_PARAMETERS_TO_DESCRIBE = 100;
 
   /**
    * Returns true if desiredValue is not null and it is not equal to the currentValue.
@@ -147,6 +150,14 @@ public class Translator {
     return DescribeClustersRequest.builder()
             .nextToken(token)
             .maxResults(MAX_RECORDS_TO_DESCRIBE)
+            .showShardDetails(false)
+            .build();
+  }
+
+  static DescribeClustersRequest translateToDescribeClusterRequest(String clusterName) {
+    return DescribeClustersRequest.builder()
+            .clusterName(clusterName)
+            .showShardDetails(false)
             .build();
   }
 
@@ -197,7 +208,7 @@ public class Translator {
   }
 
   public static DescribeParametersRequest translateToDescribeParametersRequest(String parameterGroupName, String nextToken) {
-    return DescribeParametersRequest.builder().parameterGroupName(parameterGroupName).maxResults(MAX_RECORDS_TO_DESCRIBE).nextToken(nextToken).build();
+    return DescribeParametersRequest.builder().parameterGroupName(parameterGroupName).maxResults(MAX_PARAMETERS_TO_DESCRIBE).nextToken(nextToken).build();
   }
 
   static Set<software.amazon.memorydb.parametergroup.Tag> translateTags(final Collection<Tag> tags) {
@@ -7,13 +7,10 @@ import com.amazonaws.util.StringUtils;
 import com.google.common.collect.Sets;
 import org.apache.commons.collections.CollectionUtils;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
-import software.amazon.awssdk.services.memorydb.model.Cluster;
-import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
 import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
 import software.amazon.awssdk.services.memorydb.model.DescribeParametersResponse;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.awssdk.services.memorydb.model.Parameter;
-import software.amazon.awssdk.services.memorydb.model.ParameterGroup;
 import software.amazon.awssdk.services.memorydb.model.ParameterGroupNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.TagResourceResponse;
 import software.amazon.awssdk.services.memorydb.model.UntagResourceResponse;
@@ -26,15 +23,32 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public class UpdateHandler extends BaseHandlerStd {
 
+    // States recorded in the stabilization timeline while the clusters apply the update
+    static final String CLUSTERS_PENDING = "clusters-pending";
+    static final String CLUSTERS_IN_SYNC = "clusters-in-sync";
+
+    static final DefaultParametersCache DEFAULT_PARAMETERS =
+            new DefaultParametersCache(DefaultParametersCache.DEFAULT_TTL, System::currentTimeMillis);
+
+    public UpdateHandler() {
+    }
+
+    UpdateHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -57,7 +71,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private boolean isUpdateNeeded(final ResourceModel desiredResourceState,
                                    final ResourceModel currentResourceState) {
-        return Translator.isModified(desiredResourceState.getParameters(), currentResourceState.getParameters());
+        return ParameterDiff.isModified(desiredResourceState.getParameters(), currentResourceState.getParameters());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> tagResource(final AmazonWebServicesClientProxy proxy,
@@ -66,7 +80,7 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                         final ResourceHandlerRequest<ResourceModel> request,
                                                                         final Logger logger) {
         if (!isUpdateNeeded(request.getDesiredResourceTags(), request.getPreviousResourceTags()) || !isArnPresent(progress.getResourceModel())) {
-            logger.log("No tags to update.");
+            HandlerLogger.debug(logger, () -> "No tags to update.");
             return listTags(proxy, progress, proxyClient);
         }
 
@@ -88,12 +102,12 @@ public class UpdateHandler extends BaseHandlerStd {
         final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
 
         if (CollectionUtils.isNotEmpty(tagsToRemove)) {
-            UntagResourceResponse untagResourceResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToUntagResourceRequest(arn, tagsToRemove), proxyClient.client()::untagResource);
+            UntagResourceResponse untagResourceResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToUntagResourceRequest(arn, tagsToRemove), proxyClient.client()::untagResource);
             model.setTags(translateTagsFromSdk(untagResourceResponse.tagList()));
         }
 
         if (CollectionUtils.isNotEmpty(tagsToAdd)) {
-            TagResourceResponse tagResourceResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToTagResourceRequest(arn, tagsToAdd), proxyClient.client()::tagResource);
+            TagResourceResponse tagResourceResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToTagResourceRequest(arn, tagsToAdd), proxyClient.client()::tagResource);
             model.setTags(translateTagsFromSdk(tagResourceResponse.tagList()));
         }
 
@@ -121,29 +135,15 @@ public class UpdateHandler extends BaseHandlerStd {
         }
         final CallbackContext cxt = progress.getCallbackContext();
         try {
-            if (!cxt.isClusterStabilized()) { // if not stabilized then we keep describing clusters and memoizing the nextToken into the set
-
-                final DescribeClustersResponse describeClustersResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToDescribeClustersRequest(cxt.getNextToken()), proxyClient.client()::describeClusters);
-
-                List<Cluster> clusters = describeClustersResponse.clusters();
-                if ((clusters == null) || (clusters != null && clusters.isEmpty())) {
+            if (!cxt.isClusterStabilized()) { // if not stabilized then we keep tracking the clusters which are not in sync yet
+                if (ClusterSyncScanner.isInSync(proxyClient, request.getDesiredResourceState().getParameterGroupName(), STABILIZED_STATUS, cxt)) {
                     cxt.setClusterStabilized(true);
-                    return progress;
-                }
-
-                if (clusters.stream()
-                        .filter(cluster -> cluster.parameterGroupName() != null // could be null when the cluster is in create-failed state
-                                && cluster.parameterGroupStatus() != null // same as above
-                                && cluster.parameterGroupName().equals(request.getDesiredResourceState().getParameterGroupName())) // all db clusters that use the param group
-                        .allMatch(dbCluster -> STABILIZED_STATUS.equals(dbCluster.parameterGroupStatus()))) { // if all stabilized then move to the next page
-
-                    if (describeClustersResponse.nextToken() != null) { // more pages left
-                        cxt.setNextToken(describeClustersResponse.nextToken());
-                        progress.setCallbackDelaySeconds(CALLBACK_DELAY); // if there are more to describe
-                    } else { // nothing left to stabilized
-                        cxt.setClusterStabilized(true);
-                    }
+                    cxt.getStabilizationTimeline().record(CLUSTERS_IN_SYNC);
+                } else if (cxt.getNextToken() != null) {
+                    cxt.getStabilizationTimeline().record(CLUSTERS_PENDING);
+                    progress.setCallbackDelaySeconds(SCAN_CALLBACK_DELAY); // more pages to scan
                 } else {
+                    cxt.getStabilizationTimeline().record(CLUSTERS_PENDING);
                     progress.setCallbackDelaySeconds(CALLBACK_DELAY); // if some still in transition status need some delay to describe
                 }
             }
@@ -164,36 +164,40 @@ public class UpdateHandler extends BaseHandlerStd {
                 return progress;
             }
 
-            Map<String, Object> specifiedParamsToUpdate = request.getDesiredResourceState().getParameters();
+            final Map<String, Object> specifiedParamsToUpdate = request.getDesiredResourceState().getParameters();
 
-            Map<String, Object> existingParams = request.getPreviousResourceState().getParameters();
+            final Map<String, Object> existingParams = request.getPreviousResourceState().getParameters();
 
-            Set<String> removedParamKeys = existingParams != null && !existingParams.isEmpty() ?
-                    existingParams.entrySet().stream().filter(existingParam ->
-                            !specifiedParamsToUpdate.containsKey(existingParam.getKey()))
-                            .map(removedParam -> removedParam.getKey())
-                            .collect(Collectors.toSet()) : null;
-
-            final List<Parameter> finalParamsToUpdate = specifiedParamsToUpdate
+            // only the parameters whose value changed are sent
+            final List<Parameter> finalParamsToUpdate = ParameterDiff.changed(specifiedParamsToUpdate, existingParams)
                     .entrySet()
                     .stream()
                     .map(kv -> Parameter.builder()
                             .name(kv.getKey())
-                            .value(String.valueOf(kv.getValue()))
+                            .value(kv.getValue())
                             .build())
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toCollection(ArrayList::new));
 
             //get the default parameter values for all the params which were removed from the desired state
-            if(removedParamKeys != null && !removedParamKeys.isEmpty()) {
+            final Set<String> removedParamKeys = ParameterDiff.removed(specifiedParamsToUpdate, existingParams);
+            if (!removedParamKeys.isEmpty()) {
                 finalParamsToUpdate.addAll(getDefaultParametersForRemovedParams(removedParamKeys, proxyClient, progress));
             }
 
-            //initiate parameter-group update
-            return proxy.initiate("AWS-memorydb-ParameterGroup::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, finalParamsToUpdate))
-                    .backoffDelay(STABILIZATION_DELAY)
-                    .makeServiceCall((awsRequest, proxyInvocation) -> handleExceptions(() -> proxyInvocation.injectCredentialsAndInvokeV2(awsRequest, proxyInvocation.client()::updateParameterGroup)))
-                    .progress();
+            //initiate parameter-group update, in as many requests as the service limit requires
+            final List<List<Parameter>> chunks = ParameterDiff.chunk(finalParamsToUpdate, ParameterDiff.MAX_PARAMETERS_PER_UPDATE);
+            ProgressEvent<ResourceModel, CallbackContext> result = progress;
+            for (int i = 0; i < chunks.size(); i++) {
+                final List<Parameter> chunk = chunks.get(i);
+                // every chunk needs its own call graph, otherwise the memoized request of the first chunk is replayed
+                final String callGraph = "AWS-memorydb-ParameterGroup::Update::" + i;
+                result = result.then(chunkProgress -> proxy.initiate(callGraph, proxyClient, chunkProgress.getResourceModel(), chunkProgress.getCallbackContext())
+                        .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, chunk))
+                        .backoffDelay(STABILIZATION_DELAY)
+                        .makeServiceCall((awsRequest, proxyInvocation) -> handleExceptions(() -> proxyInvocation.injectCredentialsAndInvokeV2(awsRequest, proxyInvocation.client()::updateParameterGroup)))
+                        .progress());
+            }
+            return result;
         } catch (BaseHandlerException e) {
             throw e;
         } catch (final Exception e) {
@@ -204,26 +208,32 @@ public class UpdateHandler extends BaseHandlerStd {
     Set<Parameter> getDefaultParametersForRemovedParams(final Set<String> removedParamKeys,
                                                         final ProxyClient<MemoryDbClient> proxyClient,
                                                         final ProgressEvent<ResourceModel, CallbackContext> progress) {
-        Set<Parameter> removedParams;
+        // the family can't change on update, so the model has it and a cached family makes no call
+        final Map<String, Parameter> defaultParams = DEFAULT_PARAMETERS.get(progress.getResourceModel().getFamily(),
+                family -> describeDefaultParameters(family, proxyClient));
+        return removedParamKeys.stream()
+                .map(defaultParams::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private Map<String, Parameter> describeDefaultParameters(final String family,
+                                                             final ProxyClient<MemoryDbClient> proxyClient) {
+        final Map<String, Parameter> defaultParams = new HashMap<>();
         String nextToken = null;
-        final ParameterGroup paramGroup = proxyClient.injectCredentialsAndInvokeV2(
-                Translator.translateToReadRequest(progress.getResourceModel()), proxyClient.client()::describeParameterGroups).parameterGroups().get(0);
         do {
             try {
                 final DescribeParametersResponse describeParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
-                        Translator.translateToDescribeParametersRequest(DEFAULT_PARAMETER_GROUP_NAME_PREFIX + paramGroup.family(), nextToken), proxyClient.client()::describeParameters);
+                        Translator.translateToDescribeParametersRequest(DEFAULT_PARAMETER_GROUP_NAME_PREFIX + family, nextToken), proxyClient.client()::describeParameters);
 
                 nextToken = describeParametersResponse.nextToken();
-                removedParams = describeParametersResponse.parameters().stream().filter(defaultParam -> removedParamKeys.contains(defaultParam.name())).collect(Collectors.toSet());
-                if (removedParams != null && removedParams.size() == removedParamKeys.size()) {
-                    break;
-                }
+                describeParametersResponse.parameters().forEach(defaultParam -> defaultParams.put(defaultParam.name(), defaultParam));
             } catch (final ParameterGroupNotFoundException e) {
                 throw new CfnNotFoundException(e);
             } catch (final Exception e) {
                 throw new CfnGeneralServiceException(e);
             }
         } while (!StringUtils.isNullOrEmpty(nextToken));
-        return removedParams;
+        return Collections.unmodifiableMap(defaultParams);
     }
 }
@@ -0,0 +1,43 @@
+package software.amazon.memorydb.parametergroup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+
+public class DefaultParametersCacheTest {
+
+    @Test
+    public void get_ReloadsExpiredFamilies() {
+        final AtomicLong now = new AtomicLong(0L);
+        final AtomicInteger loads = new AtomicInteger();
+        final DefaultParametersCache cache = new DefaultParametersCache(Duration.ofMinutes(10), now::get);
+        final Function<String, Map<String, Parameter>> loader = family -> {
+            loads.incrementAndGet();
+            return Collections.singletonMap("param", Parameter.builder().name("param").value(family).build());
+        };
+
+        assertThat(cache.get("family", loader).get("param").value()).isEqualTo("family");
+        now.set(Duration.ofMinutes(9).toMillis());
+        cache.get("family", loader);
+        assertThat(loads.get()).isEqualTo(1);
+
+        cache.get("other-family", loader);
+        assertThat(loads.get()).isEqualTo(2);
+
+        now.set(Duration.ofMinutes(10).toMillis());
+        cache.get("family", loader);
+        assertThat(loads.get()).isEqualTo(3);
+
+        cache.invalidateAll();
+        cache.get("other-family", loader);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+}
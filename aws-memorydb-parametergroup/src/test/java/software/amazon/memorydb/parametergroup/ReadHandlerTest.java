@@ -1,7 +1,9 @@
 package software.amazon.memorydb.parametergroup;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
+import software.amazon.awssdk.services.memorydb.MemoryDbAsyncClient;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
@@ -27,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -105,4 +108,40 @@ public class ReadHandlerTest extends AbstractTestBase {
             assertThat(e.getCause() instanceof ParameterGroupNotFoundException).isTrue();
         }
     }
+
+    @Test
+    public void handleRequest_ConcurrentReadSuccess() {
+        final ParameterGroup parameterGroup = getTestParameterGroup();
+        final String arn = "arn:aws:memorydb:us-east-1:123456789012:parametergroup/" + parameterGroup.name();
+        final ResourceModel desiredTestResourceModel = getDesiredTestResourceModel();
+        final MemoryDbAsyncClient asyncClient = mock(MemoryDbAsyncClient.class);
+        when(asyncClient.describeParameterGroups(any(DescribeParameterGroupsRequest.class))).thenReturn(CompletableFuture.completedFuture(
+                DescribeParameterGroupsResponse.builder().parameterGroups(parameterGroup.toBuilder().arn(arn).build()).build()));
+        when(asyncClient.listTags(any(ListTagsRequest.class))).thenReturn(CompletableFuture.completedFuture(
+                ListTagsResponse.builder().tagList(translateTagsToSdk(desiredTestResourceModel.getTags())).build()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readConcurrently(desiredTestResourceModel, asyncClient);
+
+        desiredTestResourceModel.setARN(arn);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(desiredTestResourceModel);
+        verify(asyncClient).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
+        verify(asyncClient).listTags(any(ListTagsRequest.class));
+        verify(proxyClient.client(), never()).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
+        verify(proxyClient.client(), never()).listTags(any(ListTagsRequest.class));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> readConcurrently(
+        final ResourceModel model,
+        final MemoryDbAsyncClient asyncClient) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .awsPartition("aws")
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+
+        return new ReadHandler(HandlerEnvironment.DEFAULT.withConcurrentRead(() -> asyncClient))
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
 }
@@ -2,6 +2,7 @@ package software.amazon.memorydb.parametergroup;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -9,6 +10,7 @@ import com.google.common.collect.Lists;
 import org.mockito.internal.util.collections.Sets;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.Cluster;
+import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
 import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsRequest;
@@ -18,11 +20,13 @@ import software.amazon.awssdk.services.memorydb.model.DescribeParametersResponse
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.awssdk.services.memorydb.model.Parameter;
+import software.amazon.awssdk.services.memorydb.model.ParameterNameValue;
 import software.amazon.awssdk.services.memorydb.model.TagResourceRequest;
 import software.amazon.awssdk.services.memorydb.model.TagResourceResponse;
 import software.amazon.awssdk.services.memorydb.model.UntagResourceRequest;
 import software.amazon.awssdk.services.memorydb.model.UntagResourceResponse;
 import software.amazon.awssdk.services.memorydb.model.UpdateParameterGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateParameterGroupResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -32,6 +36,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -71,6 +76,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         sdkClient = mock(MemoryDbClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
         handler = new UpdateHandler();
+        UpdateHandler.DEFAULT_PARAMETERS.invalidateAll();
 
         RESOURCE_MODEL_PREV = getDesiredTestResourceModel();
         RESOURCE_MODEL_PREV.setTags(null);
@@ -151,14 +157,45 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackContext()).isNotNull();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(1);
         assertThat(response.getCallbackContext().isClusterStabilized()).isEqualTo(false);
+        assertThat(response.getCallbackContext().getNextToken()).isEqualTo("token");
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getNextToken()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyClient.client()).describeClusters(any(DescribeClustersRequest.class));
+        verify(proxyClient.client(), times(ClusterSyncScanner.MAX_PAGES_PER_CALLBACK)).describeClusters(any(DescribeClustersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_StabilizationPollsOnlyPendingClusters(){
+
+        CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setPendingClusters(Sets.newSet("cluster-in-sync", "cluster-applying", "cluster-deleted"));
+
+        final ArgumentCaptor<DescribeClustersRequest> captor = ArgumentCaptor.forClass(DescribeClustersRequest.class);
+        when(sdkClient.describeClusters(captor.capture())).thenAnswer(invocation -> {
+            final DescribeClustersRequest describeClustersRequest = invocation.getArgument(0);
+            final String clusterName = describeClustersRequest.clusterName();
+            if ("cluster-deleted".equals(clusterName)) {
+                throw ClusterNotFoundException.builder().build();
+            }
+            return DescribeClustersResponse.builder().clusters(Cluster.builder()
+                    .name(clusterName)
+                    .parameterGroupName(RESOURCE_MODEL.getParameterGroupName())
+                    .parameterGroupStatus("cluster-in-sync".equals(clusterName) ? "in-sync" : "applying").build()).build();
+        });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.waitForStabilize(proxy, proxyClient, ProgressEvent.progress(RESOURCE_MODEL, callbackContext), requestUpdParams);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(response.getCallbackContext().isClusterStabilized()).isEqualTo(false);
+        assertThat(response.getCallbackContext().getPendingClusters()).containsExactly("cluster-applying");
+        assertThat(captor.getAllValues()).allMatch(request -> request.clusterName() != null && !request.showShardDetails());
+
+        verify(proxyClient.client(), times(3)).describeClusters(any(DescribeClustersRequest.class));
     }
 
     @Test
@@ -267,10 +304,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         RESOURCE_MODEL_PREV.setParameters(params
         );
 
-        final DescribeParameterGroupsResponse describeParameterGroupsResponse = DescribeParameterGroupsResponse.builder()
-                .parameterGroups(getTestParameterGroup()).build();
-        when(sdkClient.describeParameterGroups(any(DescribeParameterGroupsRequest.class))).thenReturn(describeParameterGroupsResponse);
-
         final DescribeParametersResponse describeParametersResponse = DescribeParametersResponse.builder()
                 .parameters(Parameter.builder().name("param").value("default_value").build()).build();
         when(sdkClient.describeParameters(any(DescribeParametersRequest.class))).thenReturn(describeParametersResponse);
@@ -287,12 +320,89 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyClient.client()).describeParameterGroups(any(DescribeParameterGroupsRequest.class));
         verify(proxyClient.client()).describeParameters(any(DescribeParametersRequest.class));
         verify(proxyClient.client()).updateParameterGroup(any(UpdateParameterGroupRequest.class));
         verify(sdkClient, atLeastOnce()).serviceName();
     }
 
+    @Test
+    public void handleRequest_UpdateParameterGroupSendsChangedParamsInChunks(){
+        final Map<String, Object> previousParams = new HashMap<>();
+        final Map<String, Object> desiredParams = new HashMap<>();
+        for (int i = 0; i < 25; i++) {
+            previousParams.put("param" + i, i);
+            desiredParams.put("param" + i, i < 3 ? String.valueOf(i) : "changed" + i);
+        }
+        previousParams.put("enabled", true);
+        desiredParams.put("enabled", "True");
+        previousParams.put("ratio", "0.50");
+        desiredParams.put("ratio", 0.5);
+        RESOURCE_MODEL_PREV.setParameters(previousParams);
+        RESOURCE_MODEL.setParameters(desiredParams);
+
+        final ArgumentCaptor<UpdateParameterGroupRequest> captor = ArgumentCaptor.forClass(UpdateParameterGroupRequest.class);
+        when(sdkClient.updateParameterGroup(captor.capture())).thenReturn(UpdateParameterGroupResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.updateParameterGroup(proxy, proxyClient, ProgressEvent.progress(RESOURCE_MODEL, new CallbackContext()), requestUpdParams);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        verify(proxyClient.client(), times(2)).updateParameterGroup(any(UpdateParameterGroupRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+
+        final List<UpdateParameterGroupRequest> requests = captor.getAllValues();
+        assertThat(requests.get(0).parameterNameValues()).hasSize(ParameterDiff.MAX_PARAMETERS_PER_UPDATE);
+        assertThat(requests.get(1).parameterNameValues()).hasSize(2);
+        assertThat(requests.stream().flatMap(r -> r.parameterNameValues().stream()).map(ParameterNameValue::parameterName))
+                .doesNotContain("param0", "param1", "param2", "enabled", "ratio")
+                .contains("param3", "param24");
+    }
+
+    @Test
+    public void isModified_NormalizesParameterValues(){
+        final Map<String, Object> previousParams = new HashMap<>();
+        previousParams.put("param", 1);
+        previousParams.put("enabled", "false");
+        final Map<String, Object> desiredParams = new HashMap<>();
+        desiredParams.put("param", "1.0");
+        desiredParams.put("enabled", false);
+
+        assertThat(ParameterDiff.isModified(desiredParams, previousParams)).isFalse();
+        assertThat(ParameterDiff.isModified(null, previousParams)).isFalse();
+
+        desiredParams.remove("enabled");
+        assertThat(ParameterDiff.isModified(desiredParams, previousParams)).isTrue();
+        assertThat(ParameterDiff.removed(desiredParams, previousParams)).containsExactly("enabled");
+        assertThat(ParameterDiff.changed(desiredParams, null)).containsEntry("param", "1.0");
+    }
+
+    @Test
+    public void handleRequest_DefaultParametersLoadedOncePerFamily(){
+        Map<String, Object> params = new HashMap<>();
+        params.put("param3", "newValue");
+        params.put("param4", "newValue");
+        RESOURCE_MODEL_PREV.setParameters(params);
+
+        when(sdkClient.describeParameters(any(DescribeParametersRequest.class)))
+                .thenReturn(DescribeParametersResponse.builder()
+                        .parameters(Parameter.builder().name("param3").value("default3").build()).nextToken("token").build())
+                .thenReturn(DescribeParametersResponse.builder()
+                        .parameters(Parameter.builder().name("param4").value("default4").build()).build());
+
+        final Set<Parameter> first = handler.getDefaultParametersForRemovedParams(Sets.newSet("param3", "param4"), proxyClient,
+                ProgressEvent.progress(RESOURCE_MODEL, new CallbackContext()));
+        final Set<Parameter> second = handler.getDefaultParametersForRemovedParams(Sets.newSet("param4", "param5"), proxyClient,
+                ProgressEvent.progress(RESOURCE_MODEL, new CallbackContext()));
+
+        assertThat(first).containsExactlyInAnyOrder(
+                Parameter.builder().name("param3").value("default3").build(),
+                Parameter.builder().name("param4").value("default4").build());
+        assertThat(second).containsExactly(Parameter.builder().name("param4").value("default4").build());
+
+        // the family comes from the model, the second lookup makes no call at all
+        verify(proxyClient.client(), times(2)).describeParameters(any(DescribeParametersRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
     @Test
     public void handleRequest_UpdateParameterGroupUpdateTags(){
 
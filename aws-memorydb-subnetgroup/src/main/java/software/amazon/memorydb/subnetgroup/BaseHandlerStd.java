@@ -25,12 +25,12 @@ import software.amazon.cloudformation.proxy.delay.Constant;
 
 import java.security.InvalidParameterException;
 import java.time.Duration;
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
@@ -50,9 +50,43 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
   protected static final BiFunction<ResourceModel, ProxyClient<MemoryDbClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
 
+  private final HandlerEnvironment environment;
+  // Waits on throttling retries and the rate limiter end before the deadline of the invocation
+  private InvocationDeadline deadline;
+  // Throttling retries are budgeted per handler invocation
+  private ThrottlingRetryPolicy throttlingRetryPolicy;
+
+  protected BaseHandlerStd() {
+    this(HandlerEnvironment.DEFAULT);
+  }
+
+  BaseHandlerStd(final HandlerEnvironment environment) {
+    this.environment = environment;
+    startInvocation();
+  }
+
+  /**
+   * For a handler run nested in another one, e.g. the read that ends a create: it shares the environment and the
+   * deadline and retry budget of the handler invocation it runs in.
+   */
+  BaseHandlerStd(final BaseHandlerStd parent) {
+    this.environment = parent.environment;
+    this.deadline = parent.deadline;
+    this.throttlingRetryPolicy = parent.throttlingRetryPolicy;
+  }
+
+  private void startInvocation() {
+    deadline = InvocationDeadline.forInvocation(environment.getClock());
+    throttlingRetryPolicy = ThrottlingRetryPolicy.forInvocation(environment.getSleeper(), deadline);
+  }
+
+  HandlerEnvironment getEnvironment() {
+    return environment;
+  }
+
   protected <T> T handleExceptions(Supplier<T> call) {
     try {
-      return call.get();
+      return throttlingRetryPolicy.call(call);
     } catch (final InvalidParameterException | InvalidParameterValueException | InvalidParameterCombinationException e) {
       throw new CfnInvalidRequestException(e);
     } catch (final SubnetGroupAlreadyExistsException e) {
@@ -68,6 +102,24 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
   }
 
+  /**
+   * Waits for a call made ahead through the async client on the first use of the returned supplier, and makes the
+   * call again through the given one on later uses, i.e. when {@link #handleExceptions} retries it after throttling.
+   */
+  protected static <T> Supplier<T> joinOrCall(final CompletableFuture<T> inFlight, final Supplier<T> call) {
+    final AtomicBoolean joined = new AtomicBoolean();
+    return () -> {
+      if (joined.getAndSet(true)) {
+        return call.get();
+      }
+      try {
+        return inFlight.join();
+      } catch (final CompletionException e) {
+        throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+      }
+    };
+  }
+
   protected ProgressEvent<ResourceModel, CallbackContext> waitForSubnetGroupAvailableStatus(final AmazonWebServicesClientProxy proxy,
                                                                                             final ProxyClient<MemoryDbClient> proxyClient,
                                                                                             final ProgressEvent<ResourceModel, CallbackContext> progress) {
@@ -95,7 +147,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                     final ResourceModel model) {
     try {
       final DescribeSubnetGroupsResponse response =
-              proxy.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), client.client()::describeSubnetGroups);
+              client.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), client.client()::describeSubnetGroups);
       return response.subnetGroups().stream().findFirst().get();
     } catch (SubnetGroupNotFoundException e) {
       throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
@@ -111,13 +163,16 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
+    startInvocation();
+    // Calls are recorded as sent to the service, after waiting on the rate limiter
+    final ApiCallMetrics apiCallMetrics = ApiCallMetrics.forInvocation();
     try {
-      return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), proxy.newProxy(ClientBuilder::getClient), logger);
+      return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), ApiRateLimiter.SHARED.wrap(apiCallMetrics.wrap(proxy.newProxy(ClientBuilder::getClient)), deadline, apiCallMetrics::recordPermitWait), logger);
     } catch (Exception e) {
-      logger.log("Request Failed : " + e.getMessage() + Arrays.stream(e.getStackTrace())
-              .map(Objects::toString)
-              .collect(Collectors.joining("\n")));
+      HandlerLogger.error(logger, "Request Failed : ", e);
       throw e;
+    } finally {
+      apiCallMetrics.log(logger, getClass().getSimpleName());
     }
   }
 
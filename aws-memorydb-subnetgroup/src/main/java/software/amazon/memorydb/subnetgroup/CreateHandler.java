@@ -15,6 +15,13 @@ import java.util.Map;
 public class CreateHandler extends BaseHandlerStd {
     private Logger logger;
 
+    public CreateHandler() {
+    }
+
+    CreateHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -25,11 +32,9 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel desiredResourceState = request.getDesiredResourceState();
-        logger.log("Input Model: ");
-        logger.log(desiredResourceState.toString());
+        HandlerLogger.debug(logger, () -> "Input Model: " + HandlerLogger.render(desiredResourceState));
 
         try {
-            logger.log(String.format("Resource model: %s", desiredResourceState.toString()));
             Validate.isTrue(desiredResourceState.getSubnetGroupName() != null, NAME_REQUIRED_FOR_SUBNET_GROUP);
             Validate.isTrue(desiredResourceState.getSubnetIds() != null, SUBNET_IDS_REQUIRED_FOR_SUBNET_GROUP);
 
@@ -43,7 +48,7 @@ public class CreateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(desiredResourceState, callbackContext)
                 .then(progress -> createSubnetGroup(proxy, proxyClient, progress, request.getDesiredResourceTags()))
                 .then(progress -> waitForSubnetGroupAvailableStatus(proxy, proxyClient, progress))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> new ReadHandler(this).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createSubnetGroup(final AmazonWebServicesClientProxy proxy,
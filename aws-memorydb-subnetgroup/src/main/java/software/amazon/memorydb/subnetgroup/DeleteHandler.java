@@ -14,6 +14,13 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 public class DeleteHandler extends BaseHandlerStd {
     private Logger logger;
 
+    public DeleteHandler() {
+    }
+
+    DeleteHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -24,11 +31,9 @@ public class DeleteHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel desiredResourceState = request.getDesiredResourceState();
-        logger.log("Input Model: ");
-        logger.log(desiredResourceState.toString());
+        HandlerLogger.debug(logger, () -> "Input Model: " + HandlerLogger.render(desiredResourceState));
 
         try {
-            logger.log(String.format("Resource model: %s", desiredResourceState.toString()));
             Validate.isTrue(desiredResourceState.getSubnetGroupName() != null, NAME_REQUIRED_FOR_SUBNET_GROUP);
         } catch (Exception e) {
             throw new CfnInvalidRequestException(e.getMessage());
@@ -20,7 +20,7 @@ public class ListHandler extends BaseHandlerStd {
         final Logger logger) {
 
         final DescribeSubnetGroupsResponse response =
-                proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()), proxyClient.client()::describeSubnetGroups);
+                proxyClient.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()), proxyClient.client()::describeSubnetGroups);
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder().resourceModels(Translator.translateFromListResponse(response))
                 .nextToken(response.nextToken()).status(OperationStatus.SUCCESS).build();
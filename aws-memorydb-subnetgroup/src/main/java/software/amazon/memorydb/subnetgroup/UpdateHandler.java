@@ -23,6 +23,13 @@ import static software.amazon.memorydb.subnetgroup.Translator.translateTagsFromS
 public class UpdateHandler extends BaseHandlerStd {
     private Logger logger;
 
+    public UpdateHandler() {
+    }
+
+    UpdateHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -75,7 +82,7 @@ public class UpdateHandler extends BaseHandlerStd {
                 isModified = Translator.isModified(desiredResourceState.getSubnetIds(), currentResourceState.getSubnetIds());
                 break;
             default:
-                logger.log(String.format("Modification type [%s] not supported", fieldType));
+                HandlerLogger.warn(logger, () -> String.format("Modification type [%s] not supported", fieldType));
                 throw new CfnInternalFailureException();
         }
         return isModified;
@@ -87,7 +94,7 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                         final ResourceHandlerRequest<ResourceModel> request,
                                                                         final Logger logger) {
         if (!isUpdateNeeded(request.getDesiredResourceTags(), request.getPreviousResourceTags()) || !isArnPresent(progress.getResourceModel())) {
-            logger.log("No tags to update.");
+            HandlerLogger.debug(logger, () -> "No tags to update.");
             return listTags(proxy, progress, proxyClient);
         }
 
@@ -109,12 +116,12 @@ public class UpdateHandler extends BaseHandlerStd {
         final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
 
         if (CollectionUtils.isNotEmpty(tagsToRemove)) {
-            UntagResourceResponse untagResourceResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToUntagResourceRequest(arn, tagsToRemove), proxyClient.client()::untagResource);
+            UntagResourceResponse untagResourceResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToUntagResourceRequest(arn, tagsToRemove), proxyClient.client()::untagResource);
             model.setTags(translateTagsFromSdk(untagResourceResponse.tagList()));
         }
 
         if (CollectionUtils.isNotEmpty(tagsToAdd)) {
-            TagResourceResponse tagResourceResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToTagResourceRequest(arn, tagsToAdd), proxyClient.client()::tagResource);
+            TagResourceResponse tagResourceResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToTagResourceRequest(arn, tagsToAdd), proxyClient.client()::tagResource);
             model.setTags(translateTagsFromSdk(tagResourceResponse.tagList()));
         }
 
@@ -6,12 +6,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.memorydb.MemoryDbAsyncClient;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsResponse;
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
 import software.amazon.awssdk.services.memorydb.model.SubnetGroup;
+import software.amazon.awssdk.services.memorydb.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -19,11 +21,15 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -82,4 +88,43 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
         assertThat(expectedResourceStateModel.equals(desiredResourceStateModel));
     }
+
+    @Test
+    public void handleRequest_ConcurrentReadSuccess() {
+        final String arn = "arn:aws:memorydb:us-east-1:123456789012:subnetgroup/" + SUBNET_GROUP_NAME;
+        final SubnetGroup subnetGroup = getSubnetGroup().toBuilder().arn(arn).build();
+        final List<Tag> tags = Arrays.asList(Tag.builder().key("key").value("value").build());
+        final MemoryDbAsyncClient asyncClient = mock(MemoryDbAsyncClient.class);
+        when(asyncClient.describeSubnetGroups(any(DescribeSubnetGroupsRequest.class))).thenReturn(CompletableFuture.completedFuture(
+            DescribeSubnetGroupsResponse.builder().subnetGroups(subnetGroup).build()));
+        when(asyncClient.listTags(any(ListTagsRequest.class))).thenReturn(CompletableFuture.completedFuture(
+            ListTagsResponse.builder().tagList(tags).build()));
+
+        final ResourceModel expectedResourceModel = getResourceModel(subnetGroup);
+        expectedResourceModel.setTags(Translator.translateTags(tags));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            readConcurrently(getDesiredResourceStateModel(), asyncClient);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expectedResourceModel);
+        verify(asyncClient).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+        verify(asyncClient).listTags(any(ListTagsRequest.class));
+        verify(sdkClient, never()).describeSubnetGroups(any(DescribeSubnetGroupsRequest.class));
+        verify(sdkClient, never()).listTags(any(ListTagsRequest.class));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> readConcurrently(
+        final ResourceModel model,
+        final MemoryDbAsyncClient asyncClient) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .awsPartition("aws")
+            .region("us-east-1")
+            .awsAccountId("123456789012")
+            .build();
+
+        return new ReadHandler(HandlerEnvironment.DEFAULT.withConcurrentRead(() -> asyncClient))
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
 }
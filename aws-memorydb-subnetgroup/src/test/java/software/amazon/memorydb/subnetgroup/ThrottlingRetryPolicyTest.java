@@ -0,0 +1,121 @@
+package software.amazon.memorydb.subnetgroup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+public class ThrottlingRetryPolicyTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+    // sleeping advances the clock of the deadline
+    private final ThrottlingRetryPolicy policy = new ThrottlingRetryPolicy(() -> 1.0, millis -> {
+        sleeps.add(millis);
+        clock.addAndGet(millis);
+    }, new InvocationDeadline(clock::get, Duration.ofMinutes(1)));
+
+    @Test
+    public void call_RetriesThrottledCallsWithDecorrelatedJitter() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        final String result = policy.call(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw throttlingException();
+            }
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        // the upper bound is three times the previous delay
+        assertThat(sleeps).containsExactly(600L, 1800L);
+        assertThat(policy.getRetriesLeft()).isEqualTo(ThrottlingRetryPolicy.RETRY_BUDGET - 2);
+    }
+
+    @Test
+    public void call_MapsToThrottlingOnceAttemptsAreExhausted() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        // the throttling error may already be wrapped by the handler
+        assertThatThrownBy(() -> policy.call(() -> {
+            calls.incrementAndGet();
+            throw new CfnGeneralServiceException(throttlingException());
+        })).isInstanceOf(CfnThrottlingException.class);
+
+        assertThat(calls.get()).isEqualTo(ThrottlingRetryPolicy.MAX_ATTEMPTS_PER_CALL);
+        assertThat(sleeps).hasSize(ThrottlingRetryPolicy.MAX_ATTEMPTS_PER_CALL - 1);
+        assertThat(sleeps).allMatch(delay -> delay <= ThrottlingRetryPolicy.MAX_DELAY.toMillis());
+    }
+
+    @Test
+    public void call_StopsRetryingWhenTheBudgetIsSpent() {
+        final AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < ThrottlingRetryPolicy.RETRY_BUDGET; i++) {
+            try {
+                policy.call(() -> {
+                    calls.incrementAndGet();
+                    throw throttlingException();
+                });
+            } catch (final CfnThrottlingException e) {
+                // expected
+            }
+        }
+
+        assertThat(policy.getRetriesLeft()).isEqualTo(0);
+        final int callsBefore = calls.get();
+        assertThatThrownBy(() -> policy.call(() -> {
+            calls.incrementAndGet();
+            throw throttlingException();
+        })).isInstanceOf(CfnThrottlingException.class);
+        assertThat(calls.get()).isEqualTo(callsBefore + 1);
+    }
+
+    @Test
+    public void call_StopsRetryingAtTheInvocationDeadline() {
+        final AtomicInteger calls = new AtomicInteger();
+        // other waits of the invocation left 1.4s after the first retry
+        clock.set(Duration.ofMinutes(1).minusSeconds(2).toMillis());
+
+        assertThatThrownBy(() -> policy.call(() -> {
+            calls.incrementAndGet();
+            throw throttlingException();
+        })).isInstanceOf(CfnThrottlingException.class);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(sleeps).containsExactly(600L);
+        assertThat(policy.getRetriesLeft()).isEqualTo(ThrottlingRetryPolicy.RETRY_BUDGET - 1);
+    }
+
+    @Test
+    public void call_DoesNotRetryOtherErrors() {
+        final AtomicInteger calls = new AtomicInteger();
+        final MemoryDbException error = MemoryDbException.builder().message("invalid").statusCode(400).build();
+
+        assertThatThrownBy(() -> policy.call(() -> {
+            calls.incrementAndGet();
+            throw error;
+        })).isSameAs(error);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(sleeps).isEmpty();
+        assertThat(ThrottlingRetryPolicy.isThrottling(MemoryDbException.builder().statusCode(429).build())).isTrue();
+    }
+
+    private static AwsServiceException throttlingException() {
+        return MemoryDbException.builder()
+                .message("Rate exceeded")
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                .build();
+    }
+}
@@ -1,8 +1,11 @@
 package software.amazon.memorydb.user;
 
-import com.google.common.base.Throwables;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
@@ -13,6 +16,7 @@ import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -28,19 +32,64 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       .delay(Duration.ofSeconds(60))
       .build();
 
+  private final HandlerEnvironment environment;
+  // Waits on throttling retries, the rate limiter and in-process polls end before the deadline of the invocation
+  private InvocationDeadline deadline;
+  // Throttling retries are budgeted per handler invocation
+  private ThrottlingRetryPolicy throttlingRetryPolicy;
+  private StabilizationPoller stabilizationPoller;
+
+  protected BaseHandlerStd() {
+    this(HandlerEnvironment.DEFAULT);
+  }
+
+  BaseHandlerStd(final HandlerEnvironment environment) {
+    this.environment = environment;
+    startInvocation();
+  }
+
+  /**
+   * For a handler run nested in another one, e.g. the read that ends a create: it shares the environment and the
+   * budgets of the handler invocation it runs in.
+   */
+  BaseHandlerStd(final BaseHandlerStd parent) {
+    this.environment = parent.environment;
+    this.deadline = parent.deadline;
+    this.throttlingRetryPolicy = parent.throttlingRetryPolicy;
+    this.stabilizationPoller = parent.stabilizationPoller;
+  }
+
+  private void startInvocation() {
+    deadline = InvocationDeadline.forInvocation(environment.getClock());
+    throttlingRetryPolicy = ThrottlingRetryPolicy.forInvocation(environment.getSleeper(), deadline);
+    stabilizationPoller = new StabilizationPoller(environment.getSleeper(), deadline);
+  }
+
+  HandlerEnvironment getEnvironment() {
+    return environment;
+  }
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    startInvocation();
+    // Calls are recorded as sent to the service, after waiting on the rate limiter
+    final ApiCallMetrics apiCallMetrics = ApiCallMetrics.forInvocation();
+    final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+    try {
+      return summarizeStabilization(handleRequest(
+        proxy,
+        request,
+        context,
+        ApiRateLimiter.SHARED.wrap(apiCallMetrics.wrap(proxy.newProxy(ClientBuilder::getClient)), deadline, apiCallMetrics::recordPermitWait),
+        logger
+      ), context, logger);
+    } finally {
+      apiCallMetrics.log(logger, getClass().getSimpleName());
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -50,37 +99,65 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ProxyClient<MemoryDbClient> proxyClient,
     final Logger logger);
 
+  /**
+   * Adds the stabilization timeline of the operation to the event that completes it.
+   */
+  private ProgressEvent<ResourceModel, CallbackContext> summarizeStabilization(
+    final ProgressEvent<ResourceModel, CallbackContext> event,
+    final CallbackContext callbackContext,
+    final Logger logger) {
+    final StabilizationTimeline timeline = callbackContext.getStabilizationTimeline();
+    if (event.isInProgress() || timeline == null || !timeline.hasEntries()) {
+      return event;
+    }
+    final String summary = "Stabilization: " + timeline.summarize(System.currentTimeMillis());
+    HandlerLogger.info(logger, () -> summary);
+    event.setMessage(event.getMessage() != null ? event.getMessage() + ". " + summary : summary);
+    return event;
+  }
+
+
+  /**
+   * Polls the given stabilization check in-process while the invocation has time left, see StabilizationPoller.
+   */
+  protected boolean pollStabilization(final BooleanSupplier check) {
+    return stabilizationPoller.poll(check);
+  }
 
   protected boolean isUserStabilized(
       final ProxyClient<MemoryDbClient> proxyClient,
       final ResourceModel model,
+      final CallbackContext callbackContext,
       Logger logger) {
 
-    logger.log("isUserStabilized");
+    HandlerLogger.debug(logger, () -> "isUserStabilized");
     try {
-      final Optional<User> user =
+      final Optional<User> user = throttlingRetryPolicy.call(() ->
           proxyClient.injectCredentialsAndInvokeV2(
               Translator.translateToReadRequest(model), proxyClient.client()::describeUsers
-          ).users().stream().findFirst();
+          )).users().stream().findFirst();
 
       if (!user.isPresent()) {
         throw UserNotFoundException.builder().build();
       }
 
-      logger.log("Stable status: " + user.get().name() + " " + user.get().status());
+      HandlerLogger.debug(logger, () -> "Stable status: " + user.get().name() + " " + user.get().status());
+      callbackContext.getStabilizationTimeline().record(user.get().status());
       return "ACTIVE".equalsIgnoreCase(user.get().status());
     } catch (UserNotFoundException e) {
       throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
+    } catch (CfnThrottlingException e) {
+      // the describe ran out of throttling retries, CloudFormation retries the handler
+      throw e;
     } catch (Exception e) {
-      logger.log(
-          e.toString() + " " + e.getMessage() + " " + e.getCause() + "\n" + Throwables.getStackTraceAsString(e));
+      HandlerLogger.error(logger, "Stabilization check failed: ", e);
       throw new CfnNotStabilizedException(MESSAGE_FORMAT_FAILED_TO_STABILIZE, model.getUserName(), e);
     }
   }
 
   protected <T> T handleExceptions(Supplier<T> call) {
     try {
-      return call.get();
+      return throttlingRetryPolicy.call(call);
     } catch (final UserAlreadyExistsException e) {
       throw new CfnAlreadyExistsException(e);
     } catch (final UserNotFoundException e) {
@@ -89,4 +166,22 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       throw new CfnGeneralServiceException(e);
     }
   }
+
+  /**
+   * Waits for a call made ahead through the async client on the first use of the returned supplier, and makes the
+   * call again through the given one on later uses, i.e. when {@link #handleExceptions} retries it after throttling.
+   */
+  protected static <T> Supplier<T> joinOrCall(final CompletableFuture<T> inFlight, final Supplier<T> call) {
+    final AtomicBoolean joined = new AtomicBoolean();
+    return () -> {
+      if (joined.getAndSet(true)) {
+        return call.get();
+      }
+      try {
+        return inFlight.join();
+      } catch (final CompletionException e) {
+        throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+      }
+    };
+  }
 }
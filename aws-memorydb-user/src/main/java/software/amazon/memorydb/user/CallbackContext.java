@@ -7,4 +7,6 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+  // Statuses observed by the stabilizers of the operation, summarized in the event that completes it
+  private StabilizationTimeline stabilizationTimeline = new StabilizationTimeline();
 }
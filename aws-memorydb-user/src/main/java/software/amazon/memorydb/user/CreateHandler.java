@@ -15,6 +15,13 @@ public class CreateHandler extends BaseHandlerStd {
     public static final String ID_WRONG_FORMAT = "UserName must begin with a letter; must contain only lowercase "
         + "ASCII letters, digits, and hyphens; and must not end with a hyphen or contain two consecutive hyphens.";
 
+    public CreateHandler() {
+    }
+
+    CreateHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -25,7 +32,7 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
 
         ResourceModel resourceModel = request.getDesiredResourceState();
-        logger.log(String.format("Resource model: %s", resourceModel.toString()));
+        HandlerLogger.debug(logger, () -> "Resource model: " + HandlerLogger.render(resourceModel));
 
         if (!resourceModel.getUserName().matches("[a-z][a-z0-9\\\\-]*")) {
             throw new CfnInvalidRequestException(ID_WRONG_FORMAT);
@@ -40,6 +47,6 @@ public class CreateHandler extends BaseHandlerStd {
                         client.injectCredentialsAndInvokeV2(awsRequest, client.client()::createUser)))
                     .progress()
             )
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> new ReadHandler(this).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 }
@@ -10,8 +10,17 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
+    // Recorded in the stabilization timeline once the user is gone
+    private static final String DELETED_STATUS = "deleted";
     private Logger logger;
 
+    public DeleteHandler() {
+    }
+
+    DeleteHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -39,8 +48,8 @@ public class DeleteHandler extends BaseHandlerStd {
                         });
                     })
                     .stabilize(
-                        (deleteUserRequest, deleteUserResponse, proxyInvocation, model, context) -> isUserDeleted(
-                            proxyInvocation, model, logger))
+                        (deleteUserRequest, deleteUserResponse, proxyInvocation, model, context) -> pollStabilization(
+                            () -> isUserDeleted(proxyInvocation, model, context, logger)))
                     .done((deleteUserRequest, deleteUserResponse, proxyInvocation, model, context) -> ProgressEvent
                         .defaultSuccessHandler(null))
             );
@@ -49,10 +58,12 @@ public class DeleteHandler extends BaseHandlerStd {
     protected boolean isUserDeleted(
         final ProxyClient<MemoryDbClient> proxyClient,
         final ResourceModel model,
+        final CallbackContext callbackContext,
         final Logger logger) {
         try {
-            isUserStabilized(proxyClient, model, logger);
+            isUserStabilized(proxyClient, model, callbackContext, logger);
         } catch (CfnNotFoundException e) {
+            callbackContext.getStabilizationTimeline().record(DELETED_STATUS);
             return true;
         }
         return false;
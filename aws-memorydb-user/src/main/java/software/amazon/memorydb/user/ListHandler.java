@@ -20,7 +20,7 @@ public class ListHandler extends BaseHandlerStd {
         final Logger logger) {
 
         final DescribeUsersResponse response = handleExceptions(() ->
-            proxy.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()),
+            proxyClient.injectCredentialsAndInvokeV2(Translator.translateToListRequest(request.getNextToken()),
                 proxyClient.client()::describeUsers));
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -92,18 +92,21 @@ public class Translator {
   /**
    * Request to update properties of a previously created resource
    * @param model resource model
+   * @param authenticationChanged whether the type or the passwords changed, the authentication mode is only sent then
    * @return awsRequest the aws service request to modify a resource
    */
-  static UpdateUserRequest translateToUpdateRequest(final ResourceModel model) {
-    return UpdateUserRequest.builder()
+  static UpdateUserRequest translateToUpdateRequest(final ResourceModel model, final boolean authenticationChanged) {
+    final UpdateUserRequest.Builder builder = UpdateUserRequest.builder()
         .userName(model.getUserName())
-        .authenticationMode(
-            software.amazon.awssdk.services.memorydb.model.AuthenticationMode.builder()
-                .type(model.getAuthenticationMode().getType())
-                .passwords(model.getAuthenticationMode().getPasswords())
-                .build())
-        .accessString(model.getAccessString())
-        .build();
+        .accessString(model.getAccessString());
+    if (authenticationChanged && model.getAuthenticationMode() != null) {
+      builder.authenticationMode(
+          software.amazon.awssdk.services.memorydb.model.AuthenticationMode.builder()
+              .type(model.getAuthenticationMode().getType())
+              .passwords(model.getAuthenticationMode().getPasswords())
+              .build());
+    }
+    return builder.build();
   }
 
   /**
@@ -148,7 +151,11 @@ public class Translator {
   }
 
   static ListTagsRequest translateToListTagsRequest(final ResourceModel model) {
-    return ListTagsRequest.builder().resourceArn(model.getArn()).build();
+    return translateToListTagsRequest(model.getArn());
+  }
+
+  static ListTagsRequest translateToListTagsRequest(final String arn) {
+    return ListTagsRequest.builder().resourceArn(arn).build();
   }
 
   static Set<software.amazon.memorydb.user.Tag> translateTags(final Collection<Tag> tags) {
@@ -10,6 +10,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.DescribeUsersResponse;
+import software.amazon.awssdk.services.memorydb.model.InvalidArnException;
+import software.amazon.awssdk.services.memorydb.model.UserNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -17,8 +19,18 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class UpdateHandler extends BaseHandlerStd {
+    // Tags are updated on their own, after the user
+    private static final ModelDiff CORE_MODEL_DIFF = ModelDiff.fromSchema("Tags");
+
     private Logger logger;
 
+    public UpdateHandler() {
+    }
+
+    UpdateHandler(final HandlerEnvironment environment) {
+        super(environment);
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -32,7 +44,7 @@ public class UpdateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress -> updateUser(proxy, progress, request, proxyClient))
             .then(progress -> updateTags(proxy, progress, request, proxyClient))
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> readResource(proxy, progress, request, proxyClient, logger));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateUser(
@@ -41,15 +53,19 @@ public class UpdateHandler extends BaseHandlerStd {
         ResourceHandlerRequest<ResourceModel> request,
         ProxyClient<MemoryDbClient> proxyClient
     ) {
-        if (hasChangeOnCoreModel(request.getDesiredResourceState(), request.getPreviousResourceState())) {
+        final Set<String> changedProperties = changedCoreProperties(request);
+        if (!changedProperties.isEmpty()) {
+            // Password changes propagate to every cluster using the user, so the authentication mode is only sent
+            // when its type or passwords changed
+            final boolean authenticationChanged = changedProperties.contains("AuthenticationMode");
             return proxy.initiate("AWS-MemoryDB-User::Update", proxyClient, progress.getResourceModel(),
                 progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToUpdateRequest)
+                .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, authenticationChanged))
                 .makeServiceCall((awsRequest, client) -> handleExceptions(() ->
                     client.injectCredentialsAndInvokeV2(awsRequest, client.client()::updateUser)))
                 .stabilize(
-                    (updateUserRequest, updateUserResponse, proxyInvocation, model, context) -> isUserStabilized(
-                        proxyInvocation, model, logger))
+                    (updateUserRequest, updateUserResponse, proxyInvocation, model, context) -> pollStabilization(
+                        () -> isUserStabilized(proxyInvocation, model, context, logger)))
                 .progress();
         } else {
             return progress;
@@ -63,11 +79,11 @@ public class UpdateHandler extends BaseHandlerStd {
         ResourceHandlerRequest<ResourceModel> request,
         ProxyClient<MemoryDbClient> proxyClient
     ) {
-        if (!request.getPreviousResourceTags().equals(request.getDesiredResourceTags())) {
+        if (isTagUpdateNeeded(request)) {
             return progress
                 .then(o ->
                     handleExceptions(() -> {
-                        handleTagging(proxy, proxyClient,  request.getDesiredResourceTags(), progress.getResourceModel());
+                        handleTagging(proxy, proxyClient, request, progress.getResourceModel());
                         return ProgressEvent.progress(o.getResourceModel(), o.getCallbackContext());
                     })
                 );
@@ -77,19 +93,30 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     private void handleTagging(AmazonWebServicesClientProxy proxy, ProxyClient<MemoryDbClient> client,
-        final Map<String, String> tags, final ResourceModel model) {
-
+        final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model) {
+        final Map<String, String> tags = request.getDesiredResourceTags();
         final Set<Tag> newTags = tags == null ? Collections.emptySet() : new HashSet<>(Translator.translateTags(tags));
         final Set<Tag> existingTags = new HashSet<>();
 
         //Fix for unpopulated arn on resource model
-        setModelArn(proxy, client, model);
+        final boolean synthesizedArn = synthesizeModelArn(request, model);
+        if (!synthesizedArn) {
+            setModelArn(proxy, client, model);
+        }
         if (!StringUtils.isNullOrEmpty(model.getArn())) {
-            existingTags.addAll(
-                Translator.translateTags(
-                    proxy.injectCredentialsAndInvokeV2(
-                        Translator.translateToListTagsRequest(model),
-                        client.client()::listTags).tagList()));
+            try {
+                existingTags.addAll(listTags(proxy, client, model));
+            } catch (final InvalidArnException | UserNotFoundException e) {
+                if (!synthesizedArn) {
+                    throw e;
+                }
+                // The synthesized arn was rejected, recover the actual one
+                model.setArn(null);
+                setModelArn(proxy, client, model);
+                if (!StringUtils.isNullOrEmpty(model.getArn())) {
+                    existingTags.addAll(listTags(proxy, client, model));
+                }
+            }
         }
 
         final List<Tag> tagsToRemove = existingTags.stream()
@@ -99,36 +126,79 @@ public class UpdateHandler extends BaseHandlerStd {
             .filter(tag -> !existingTags.contains(tag))
             .collect(Collectors.toList());
 
+        // Untag and tag responses return the resulting tag set, carry it forward instead of listing the tags again
+        Set<Tag> resultingTags = existingTags;
         if (!CollectionUtils.isNullOrEmpty(tagsToRemove)) {
-            proxy.injectCredentialsAndInvokeV2(
-                Translator.translateToUntagResourceRequest(model.getArn(), tagsToRemove),
-                client.client()::untagResource);
+            resultingTags = Translator.translateTags(
+                client.injectCredentialsAndInvokeV2(
+                    Translator.translateToUntagResourceRequest(model.getArn(), tagsToRemove),
+                    client.client()::untagResource).tagList());
         }
         if (!CollectionUtils.isNullOrEmpty(tagsToAdd)) {
-            proxy.injectCredentialsAndInvokeV2(
-                Translator.translateToTagResourceRequest(model.getArn(), tagsToAdd),
-                client.client()::tagResource);
+            resultingTags = Translator.translateTags(
+                client.injectCredentialsAndInvokeV2(
+                    Translator.translateToTagResourceRequest(model.getArn(), tagsToAdd),
+                    client.client()::tagResource).tagList());
+        }
+        model.setTags(resultingTags);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> readResource(
+        AmazonWebServicesClientProxy proxy,
+        ProgressEvent<ResourceModel, CallbackContext> progress,
+        ResourceHandlerRequest<ResourceModel> request,
+        ProxyClient<MemoryDbClient> proxyClient,
+        Logger logger
+    ) {
+        final ReadHandler readHandler = new ReadHandler(this);
+        if (!isTagUpdateNeeded(request)) {
+            return readHandler.handleRequest(proxy, request, progress.getCallbackContext(), proxyClient, logger);
         }
+
+        //Tags were set by handleTagging, only the user itself needs to be read back
+        final Set<Tag> tags = progress.getResourceModel().getTags();
+        return readHandler.describeUser(proxy, progress, proxyClient)
+            .then(described -> {
+                described.getResourceModel().setTags(tags);
+                return ProgressEvent.defaultSuccessHandler(described.getResourceModel());
+            });
+    }
+
+    private boolean isTagUpdateNeeded(final ResourceHandlerRequest<ResourceModel> request) {
+        return !request.getPreviousResourceTags().equals(request.getDesiredResourceTags());
     }
 
-    private boolean hasChangeOnCoreModel(final ResourceModel r1, final ResourceModel r2){
-        return !getResourceWithoutTags(r1).equals(getResourceWithoutTags(r2));
+    private Set<String> changedCoreProperties(final ResourceHandlerRequest<ResourceModel> request) {
+        final Set<String> changedProperties =
+            CORE_MODEL_DIFF.changedProperties(request.getDesiredResourceState(), request.getPreviousResourceState());
+        HandlerLogger.debug(logger, () -> "Changed properties: " + changedProperties);
+        return changedProperties;
     }
 
-    private ResourceModel getResourceWithoutTags(final ResourceModel resourceModel) {
-        return ResourceModel.builder()
-            .status(resourceModel.getStatus())
-            .userName(resourceModel.getUserName())
-            .accessString(resourceModel.getAccessString())
-            .authenticationMode(resourceModel.getAuthenticationMode())
-            .arn(resourceModel.getArn())
-            .build();
+    private Set<Tag> listTags(AmazonWebServicesClientProxy proxy, ProxyClient<MemoryDbClient> client,
+        final ResourceModel model) {
+        return Translator.translateTags(
+            client.injectCredentialsAndInvokeV2(
+                Translator.translateToListTagsRequest(model),
+                client.client()::listTags).tagList());
+    }
+
+    private boolean synthesizeModelArn(final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model) {
+        if (!StringUtils.isNullOrEmpty(model.getArn())) {
+            return false;
+        }
+        final String arn = ArnBuilder.build(request, "user", model.getUserName());
+        if (arn == null) {
+            return false;
+        }
+        model.setArn(arn);
+        return true;
     }
 
     private void setModelArn(AmazonWebServicesClientProxy proxy, ProxyClient<MemoryDbClient> client,
         final ResourceModel model) {
         if (StringUtils.isNullOrEmpty(model.getArn())) {
-            DescribeUsersResponse response = proxy.injectCredentialsAndInvokeV2(
+            DescribeUsersResponse response = client.injectCredentialsAndInvokeV2(
                 Translator.translateToReadRequest(model),
                 client.client()::describeUsers);
             if (response.users().size() > 0) {
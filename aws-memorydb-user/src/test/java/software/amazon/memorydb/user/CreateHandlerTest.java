@@ -8,6 +8,7 @@ import software.amazon.awssdk.services.memorydb.model.DescribeUsersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeUsersResponse;
 import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
 import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
 import software.amazon.awssdk.services.memorydb.model.UserAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -92,6 +93,34 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(sdkClient, atLeast(1)).serviceName();
     }
 
+    @Test
+    public void handleRequest_StabilizationRetriesThrottledDescribe() {
+        when(sdkClient.createUser(any(CreateUserRequest.class))).thenReturn(CreateUserResponse.builder().build());
+        when(sdkClient.listTags(any(ListTagsRequest.class)))
+            .thenReturn(ListTagsResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build());
+        when(sdkClient.describeUsers(any(DescribeUsersRequest.class)))
+            .thenThrow(MemoryDbException.builder().statusCode(429).message("Rate exceeded").build())
+            .thenReturn(DescribeUsersResponse.builder().users(buildDefaultUser()).build());
+
+        final CreateHandler handler = new CreateHandler(HandlerEnvironment.DEFAULT.withSleeper(millis -> { }));
+
+        final ResourceModel model = buildDefaultResourceModel();
+        model.getAuthenticationMode().setPasswords(null);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getStatus()).isEqualTo(ACTIVE);
+
+        verify(sdkClient, atLeast(2)).describeUsers(any(DescribeUsersRequest.class));
+        verify(sdkClient, atLeast(1)).serviceName();
+    }
+
     @Test
     public void handleRequest_Failed() {
         doThrow(UserAlreadyExistsException.class)
@@ -0,0 +1,58 @@
+package software.amazon.memorydb.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class HandlerLoggerTest extends AbstractTestBase {
+
+    private static final String SECRET = "s3cr3t-passw0rd";
+
+    private static ResourceModel modelWithPasswords() {
+        return ResourceModel.builder()
+                .userName(USER_NAME)
+                .authenticationMode(AuthenticationMode.builder()
+                        .type(AUTHMODE)
+                        .passwords(Arrays.asList(SECRET, SECRET + "-2"))
+                        .build())
+                .arn(ARN)
+                .build();
+    }
+
+    @Test
+    public void render_MasksPasswords() {
+        final ResourceModel model = modelWithPasswords();
+
+        final String rendered = HandlerLogger.render(model);
+
+        assertThat(rendered).doesNotContain(SECRET);
+        assertThat(rendered).contains(HandlerLogger.MASKED_PASSWORD);
+        assertThat(rendered).contains(USER_NAME);
+        assertThat(model.getAuthenticationMode().getPasswords()).containsExactly(SECRET, SECRET + "-2");
+    }
+
+    @Test
+    public void render_WithoutPasswords() {
+        final ResourceModel model = ResourceModel.builder().userName(USER_NAME).build();
+
+        assertThat(HandlerLogger.render(model)).isEqualTo(model.toString());
+        assertThat(HandlerLogger.render(null)).isEqualTo("null");
+    }
+
+    @Test
+    public void debug_SkipsTheModelWhenDisabled() {
+        final List<String> lines = new ArrayList<>();
+        HandlerLogger.log(HandlerLogger.Level.INFO, lines::add, HandlerLogger.Level.DEBUG,
+                () -> "Resource model: " + HandlerLogger.render(modelWithPasswords()));
+        assertThat(lines).isEmpty();
+
+        HandlerLogger.log(HandlerLogger.Level.DEBUG, lines::add, HandlerLogger.Level.DEBUG,
+                () -> "Resource model: " + HandlerLogger.render(modelWithPasswords()));
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).doesNotContain(SECRET);
+    }
+}
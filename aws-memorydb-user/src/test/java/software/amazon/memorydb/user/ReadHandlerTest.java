@@ -1,6 +1,8 @@
 package software.amazon.memorydb.user;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.services.memorydb.MemoryDbAsyncClient;
 import software.amazon.awssdk.services.memorydb.MemoryDbClient;
 import software.amazon.awssdk.services.memorydb.model.DescribeUsersRequest;
 import software.amazon.awssdk.services.memorydb.model.DescribeUsersResponse;
@@ -25,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -106,4 +109,41 @@ public class ReadHandlerTest extends AbstractTestBase {
             assertThat(e.getCause() instanceof UserNotFoundException).isTrue();
         }
     }
+
+    @Test
+    public void handleRequest_ConcurrentReadSuccess() {
+        final String arn = "arn:aws:memorydb:us-east-1:123456789012:user/" + USER_NAME;
+        final MemoryDbAsyncClient asyncClient = mock(MemoryDbAsyncClient.class);
+        when(asyncClient.describeUsers(any(DescribeUsersRequest.class))).thenReturn(CompletableFuture.completedFuture(
+            DescribeUsersResponse.builder().users(buildDefaultUser().toBuilder().arn(arn).build()).build()));
+        when(asyncClient.listTags(any(ListTagsRequest.class))).thenReturn(CompletableFuture.completedFuture(
+            ListTagsResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build()));
+
+        final ResourceModel model = buildDefaultResourceModel();
+        model.getAuthenticationMode().setPasswords(null);
+        model.setArn(arn);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readConcurrently(model, asyncClient);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+        verify(asyncClient).describeUsers(any(DescribeUsersRequest.class));
+        verify(asyncClient).listTags(any(ListTagsRequest.class));
+        verify(sdkClient, never()).describeUsers(any(DescribeUsersRequest.class));
+        verify(sdkClient, never()).listTags(any(ListTagsRequest.class));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> readConcurrently(
+        final ResourceModel model,
+        final MemoryDbAsyncClient asyncClient) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .awsPartition("aws")
+            .region("us-east-1")
+            .awsAccountId("123456789012")
+            .build();
+
+        return new ReadHandler(HandlerEnvironment.DEFAULT.withConcurrentRead(() -> asyncClient))
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
 }
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -35,6 +36,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -226,4 +229,108 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
         assertThat(model.getArn()).isNotNull();
     }
+
+    @Test
+    public void handleRequest_ReadOnlyDriftAndReorderedPasswordsSkipUpdate() {
+        when(sdkClient.describeUsers(any(DescribeUsersRequest.class)))
+            .thenReturn(DescribeUsersResponse.builder().users(buildDefaultUser()).build());
+        when(sdkClient.listTags(any(ListTagsRequest.class)))
+            .thenReturn(ListTagsResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build());
+
+        final ResourceModel modelPrevious = buildDefaultResourceModel();
+        modelPrevious.setStatus(MODIFYING);
+        modelPrevious.setArn(null);
+        modelPrevious.setAuthenticationMode(AuthenticationMode.builder()
+            .type(AUTHMODE)
+            .passwords(ImmutableList.of(PASSWORD, PASSWORD + "2"))
+            .build());
+        final ResourceModel modelDesired = buildDefaultResourceModel();
+        modelDesired.setAuthenticationMode(AuthenticationMode.builder()
+            .type(AUTHMODE)
+            .passwords(ImmutableList.of(PASSWORD + "2", PASSWORD))
+            .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(modelPrevious)
+            .desiredResourceState(modelDesired)
+            .previousResourceTags(Translator.translateTags(TAG_SET))
+            .desiredResourceTags(Translator.translateTags(TAG_SET))
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler()
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getStatus()).isEqualTo(ACTIVE);
+        // only the read back reaches the service
+        verify(sdkClient, never()).updateUser(any(UpdateUserRequest.class));
+        verify(sdkClient).describeUsers(any(DescribeUsersRequest.class));
+        verify(sdkClient).listTags(any(ListTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AccessStringChangeLeavesAuthenticationOut() {
+        final ResourceModel modelDesired = buildDefaultResourceModel();
+        modelDesired.setAccessString("on ~* +@read");
+        // same passwords in another order
+        final ResourceModel modelPrevious = buildDefaultResourceModel();
+        modelPrevious.setAuthenticationMode(AuthenticationMode.builder()
+            .type(AUTHMODE)
+            .passwords(ImmutableList.of(PASSWORD + "2", PASSWORD))
+            .build());
+        modelDesired.setAuthenticationMode(AuthenticationMode.builder()
+            .type(AUTHMODE)
+            .passwords(ImmutableList.of(PASSWORD, PASSWORD + "2"))
+            .build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final UpdateUserRequest updateRequest = updateUser(modelPrevious, modelDesired, callbackContext);
+
+        assertThat(updateRequest.accessString()).isEqualTo("on ~* +@read");
+        assertThat(updateRequest.authenticationMode()).isNull();
+        // passwords are compared between the models, never kept in the context
+        assertThat(callbackContext.toString()).doesNotContain(PASSWORD + "2");
+    }
+
+    @Test
+    public void handleRequest_PasswordChangeSendsAuthentication() {
+        final ResourceModel modelPrevious = buildDefaultResourceModel();
+        final ResourceModel modelDesired = buildDefaultResourceModel();
+        modelDesired.setAuthenticationMode(AuthenticationMode.builder()
+            .type(AUTHMODE)
+            .passwords(ImmutableList.of(PASSWORD + "-rotated"))
+            .build());
+
+        final UpdateUserRequest updateRequest = updateUser(modelPrevious, modelDesired, new CallbackContext());
+
+        assertThat(updateRequest.authenticationMode().typeAsString()).isEqualTo(AUTHMODE);
+        assertThat(updateRequest.authenticationMode().passwords()).containsExactly(PASSWORD + "-rotated");
+    }
+
+    private UpdateUserRequest updateUser(final ResourceModel modelPrevious,
+                                         final ResourceModel modelDesired,
+                                         final CallbackContext callbackContext) {
+        final ArgumentCaptor<UpdateUserRequest> updateUserCapture = ArgumentCaptor.forClass(UpdateUserRequest.class);
+        when(sdkClient.updateUser(updateUserCapture.capture())).thenReturn(UpdateUserResponse.builder().build());
+        when(sdkClient.describeUsers(any(DescribeUsersRequest.class)))
+            .thenReturn(DescribeUsersResponse.builder().users(buildDefaultUser()).build());
+        when(sdkClient.listTags(any(ListTagsRequest.class)))
+            .thenReturn(ListTagsResponse.builder().tagList(Translator.translateTagsToSdk(TAG_SET)).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(modelPrevious)
+            .desiredResourceState(modelDesired)
+            .previousResourceTags(Translator.translateTags(TAG_SET))
+            .desiredResourceTags(Translator.translateTags(TAG_SET))
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler()
+            .handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient).updateUser(any(UpdateUserRequest.class));
+        verify(sdkClient, times(2)).describeUsers(any(DescribeUsersRequest.class));
+        verify(sdkClient).listTags(any(ListTagsRequest.class));
+        return updateUserCapture.getValue();
+    }
 }
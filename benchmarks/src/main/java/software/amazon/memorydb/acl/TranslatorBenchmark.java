@@ -0,0 +1,86 @@
+package software.amazon.memorydb.acl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.memorydb.model.ACL;
+import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
+import software.amazon.awssdk.services.memorydb.model.TagResourceRequest;
+
+/**
+ * Translations done on every ACL handler invocation, on a synthetic ACL with the given number of users and 50 tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final int TAGS = 50;
+
+    @Param({"1", "10", "100"})
+    public int users;
+
+    private DescribeAcLsResponse response;
+    private Map<String, String> tags;
+    private Set<Tag> modelTags;
+    private List<software.amazon.awssdk.services.memorydb.model.Tag> sdkTags;
+
+    @Setup
+    public void setup() {
+        response = DescribeAcLsResponse.builder()
+                .acLs(ACL.builder()
+                        .name("bench-acl")
+                        .status("active")
+                        .userNames(IntStream.range(0, users).mapToObj(i -> "user-" + i).collect(Collectors.toList()))
+                        .arn("arn:aws:memorydb:us-east-1:123456789012:acl/bench-acl")
+                        .build())
+                .build();
+        tags = new HashMap<>();
+        for (int i = 0; i < TAGS; i++) {
+            tags.put("key-" + i, "value-" + i);
+        }
+        modelTags = Translator.translateTags(tags);
+        sdkTags = new ArrayList<>(Translator.translateTagsToSdk(modelTags));
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(response);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromMap() {
+        return Translator.translateTags(tags);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromSdk() {
+        return Translator.translateTags(sdkTags);
+    }
+
+    @Benchmark
+    public TagResourceRequest translateToTagResourceRequest() {
+        return Translator.translateToTagResourceRequest(response.acLs().get(0).arn(), modelTags);
+    }
+}
@@ -0,0 +1,39 @@
+package software.amazon.memorydb.cluster;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+
+/**
+ * Client overhead of a handler invocation: building a client per invocation, as the handlers did before, against
+ * reusing the client of the container.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// the client resolves its region when it is built
+@Fork(value = 1, jvmArgsAppend = "-Daws.region=us-east-1")
+public class ClientBuilderBenchmark {
+
+    @Benchmark
+    public void buildPerInvocation() {
+        ClientBuilder.newClient().close();
+    }
+
+    @Benchmark
+    public MemoryDbClient reuse() {
+        return ClientBuilder.getClient();
+    }
+}
@@ -0,0 +1,99 @@
+package software.amazon.memorydb.cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.fake.FakeMemoryDb;
+import software.amazon.memorydb.fake.ProgressEventReplayer;
+import software.amazon.memorydb.fake.Workflow;
+import software.amazon.memorydb.fake.WorkflowResult;
+
+/**
+ * Creates, reads, updates and deletes a cluster against the fake service.
+ */
+public final class ClusterWorkflow implements Workflow {
+
+    private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final Map<String, String> TAGS = Collections.singletonMap("workflow", "cluster");
+
+    @Override
+    public String getName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public List<WorkflowResult> run(final FakeMemoryDb memoryDb) {
+        // retries wait on the virtual clock, and waits between polls become callbacks
+        final HandlerEnvironment environment = HandlerEnvironment.DEFAULT
+                .withClock(memoryDb.getClock()::millis)
+                .withSleeper(memoryDb.getClock()::advanceMillis);
+        final LoggerProxy logger = new LoggerProxy();
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, CREDENTIALS, () -> 0L);
+        final ProxyClient<MemoryDbClient> proxyClient = proxy.newProxy(() -> memoryDb);
+        final ProgressEventReplayer replayer = new ProgressEventReplayer(memoryDb);
+
+        final ResourceModel created = ResourceModel.builder()
+                .clusterName("workflow-cluster")
+                .description("workflow cluster")
+                .nodeType("db.r6g.large")
+                .numShards(2)
+                .numReplicasPerShard(1)
+                .aCLName(FakeMemoryDb.DEFAULT_ACL_NAME)
+                .securityGroupIds(Arrays.asList("sg-1", "sg-2"))
+                .tLSEnabled(true)
+                .build();
+        final ResourceModel updated = ResourceModel.builder()
+                .clusterName(created.getClusterName())
+                .description("updated workflow cluster")
+                .nodeType(created.getNodeType())
+                .numShards(created.getNumShards())
+                .numReplicasPerShard(2)
+                .aCLName(created.getACLName())
+                .securityGroupIds(created.getSecurityGroupIds())
+                .tLSEnabled(true)
+                .build();
+
+        final List<WorkflowResult> results = new ArrayList<>();
+        if (add(results, replayer.replay("Cluster create", created, CallbackContext.class,
+                (model, context) -> new CreateHandler(environment).handleRequest(proxy, request(model, null), orNew(context), proxyClient, logger)))
+                && add(results, replayer.replay("Cluster read", created, CallbackContext.class,
+                (model, context) -> new ReadHandler(environment).handleRequest(proxy, request(model, null), orNew(context), proxyClient, logger)))
+                && add(results, replayer.replay("Cluster update", updated, CallbackContext.class,
+                (model, context) -> new UpdateHandler(environment).handleRequest(proxy, request(model, created), orNew(context), proxyClient, logger)))) {
+            add(results, replayer.replay("Cluster delete", updated, CallbackContext.class,
+                    (model, context) -> new DeleteHandler(environment).handleRequest(proxy, request(model, null), orNew(context), proxyClient, logger)));
+        }
+        return results;
+    }
+
+    private static boolean add(final List<WorkflowResult> results, final WorkflowResult result) {
+        results.add(result);
+        return result.getStatus() == OperationStatus.SUCCESS;
+    }
+
+    private static CallbackContext orNew(final CallbackContext callbackContext) {
+        return callbackContext != null ? callbackContext : new CallbackContext();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .desiredResourceTags(TAGS)
+                .previousResourceTags(previous != null ? TAGS : null)
+                .awsPartition("aws")
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package software.amazon.memorydb.cluster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.memorydb.model.Cluster;
+import software.amazon.awssdk.services.memorydb.model.CreateClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.Node;
+import software.amazon.awssdk.services.memorydb.model.SecurityGroupMembership;
+import software.amazon.awssdk.services.memorydb.model.Shard;
+
+/**
+ * Translations done on every cluster handler invocation, on a synthetic cluster of the given number of shards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final int REPLICAS_PER_SHARD = 2;
+    // Most security groups a cluster can have
+    private static final int SECURITY_GROUPS = 5;
+    private static final int TAGS = 50;
+
+    @Param({"1", "10", "100", "500"})
+    public int shards;
+
+    private Cluster cluster;
+    private ResourceModel model;
+    private List<String> securityGroupIds;
+    private List<String> reorderedSecurityGroupIds;
+    private Map<String, String> tags;
+    private List<software.amazon.awssdk.services.memorydb.model.Tag> sdkTags;
+
+    @Setup
+    public void setup() {
+        final List<Shard> shardList = IntStream.range(0, shards)
+                .mapToObj(shard -> Shard.builder()
+                        .name(String.format("%04d", shard))
+                        .numberOfNodes(REPLICAS_PER_SHARD + 1)
+                        .nodes(IntStream.rangeClosed(0, REPLICAS_PER_SHARD)
+                                .mapToObj(node -> Node.builder()
+                                        .name(String.format("bench-cluster-%04d-%03d", shard, node))
+                                        .availabilityZone("us-east-1" + (char) ('a' + node % 3))
+                                        .status("available")
+                                        .endpoint(software.amazon.awssdk.services.memorydb.model.Endpoint.builder()
+                                                .address(String.format("bench-cluster-%04d-%03d.memorydb.amazonaws.com", shard, node))
+                                                .port(6379)
+                                                .build())
+                                        .build())
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+        securityGroupIds = IntStream.range(0, SECURITY_GROUPS).mapToObj(i -> "sg-" + i).collect(Collectors.toList());
+        reorderedSecurityGroupIds = new ArrayList<>(securityGroupIds);
+        Collections.reverse(reorderedSecurityGroupIds);
+        cluster = Cluster.builder()
+                .name("bench-cluster")
+                .description("benchmark cluster")
+                .status("available")
+                .nodeType("db.r6g.large")
+                .numberOfShards(shards)
+                .shards(shardList)
+                .securityGroups(securityGroupIds.stream()
+                        .map(id -> SecurityGroupMembership.builder().securityGroupId(id).status("active").build())
+                        .collect(Collectors.toList()))
+                .clusterEndpoint(software.amazon.awssdk.services.memorydb.model.Endpoint.builder()
+                        .address("clustercfg.bench-cluster.memorydb.amazonaws.com")
+                        .port(6379)
+                        .build())
+                .subnetGroupName("bench-subnet-group")
+                .parameterGroupName("default.memorydb-redis6")
+                .parameterGroupStatus("in-sync")
+                .engineVersion("6.2")
+                .aclName("open-access")
+                .tlsEnabled(true)
+                .arn("arn:aws:memorydb:us-east-1:123456789012:cluster/bench-cluster")
+                .build();
+        model = Translator.translateFromReadResponse(cluster);
+        tags = new HashMap<>();
+        for (int i = 0; i < TAGS; i++) {
+            tags.put("key-" + i, "value-" + i);
+        }
+        sdkTags = new ArrayList<>(Translator.translateTagsToSdk(tags));
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(cluster);
+    }
+
+    @Benchmark
+    public CreateClusterRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model, tags);
+    }
+
+    @Benchmark
+    public boolean isModifiedIgnoreOrder() {
+        return Translator.isModified(reorderedSecurityGroupIds, securityGroupIds);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.memorydb.model.Tag> translateTagsToSdk() {
+        return Translator.translateTagsToSdk(tags);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromSdk() {
+        return Translator.translateTagsFromSdk(sdkTags);
+    }
+}
@@ -0,0 +1,945 @@
+package software.amazon.memorydb.fake;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.awssdk.services.memorydb.model.ACL;
+import software.amazon.awssdk.services.memorydb.model.AclAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.AclNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.Authentication;
+import software.amazon.awssdk.services.memorydb.model.AuthenticationType;
+import software.amazon.awssdk.services.memorydb.model.AvailabilityZone;
+import software.amazon.awssdk.services.memorydb.model.Cluster;
+import software.amazon.awssdk.services.memorydb.model.ClusterAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.CreateAclRequest;
+import software.amazon.awssdk.services.memorydb.model.CreateAclResponse;
+import software.amazon.awssdk.services.memorydb.model.CreateClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.CreateClusterResponse;
+import software.amazon.awssdk.services.memorydb.model.CreateParameterGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.CreateParameterGroupResponse;
+import software.amazon.awssdk.services.memorydb.model.CreateSubnetGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.CreateSubnetGroupResponse;
+import software.amazon.awssdk.services.memorydb.model.CreateUserRequest;
+import software.amazon.awssdk.services.memorydb.model.CreateUserResponse;
+import software.amazon.awssdk.services.memorydb.model.DeleteAclRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteAclResponse;
+import software.amazon.awssdk.services.memorydb.model.DeleteClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteClusterResponse;
+import software.amazon.awssdk.services.memorydb.model.DeleteParameterGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteParameterGroupResponse;
+import software.amazon.awssdk.services.memorydb.model.DeleteSubnetGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteSubnetGroupResponse;
+import software.amazon.awssdk.services.memorydb.model.DeleteUserRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteUserResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeAcLsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeAcLsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeEngineVersionsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeEngineVersionsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeEventsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeEventsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeParameterGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeParametersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeParametersResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeSubnetGroupsResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeUsersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeUsersResponse;
+import software.amazon.awssdk.services.memorydb.model.Endpoint;
+import software.amazon.awssdk.services.memorydb.model.EngineVersionInfo;
+import software.amazon.awssdk.services.memorydb.model.InvalidArnException;
+import software.amazon.awssdk.services.memorydb.model.ListTagsRequest;
+import software.amazon.awssdk.services.memorydb.model.ListTagsResponse;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.awssdk.services.memorydb.model.Node;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroup;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroupAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.ParameterGroupNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.ParameterNameValue;
+import software.amazon.awssdk.services.memorydb.model.SecurityGroupMembership;
+import software.amazon.awssdk.services.memorydb.model.Shard;
+import software.amazon.awssdk.services.memorydb.model.Subnet;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroup;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroupAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroupNotFoundException;
+import software.amazon.awssdk.services.memorydb.model.Tag;
+import software.amazon.awssdk.services.memorydb.model.TagResourceRequest;
+import software.amazon.awssdk.services.memorydb.model.TagResourceResponse;
+import software.amazon.awssdk.services.memorydb.model.UntagResourceRequest;
+import software.amazon.awssdk.services.memorydb.model.UntagResourceResponse;
+import software.amazon.awssdk.services.memorydb.model.UpdateAclRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateAclResponse;
+import software.amazon.awssdk.services.memorydb.model.UpdateClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateClusterResponse;
+import software.amazon.awssdk.services.memorydb.model.UpdateParameterGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateParameterGroupResponse;
+import software.amazon.awssdk.services.memorydb.model.UpdateSubnetGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateSubnetGroupResponse;
+import software.amazon.awssdk.services.memorydb.model.UpdateUserRequest;
+import software.amazon.awssdk.services.memorydb.model.UpdateUserResponse;
+import software.amazon.awssdk.services.memorydb.model.User;
+import software.amazon.awssdk.services.memorydb.model.UserAlreadyExistsException;
+import software.amazon.awssdk.services.memorydb.model.UserNotFoundException;
+
+/**
+ * In-process stand-in for MemoryDB, to run handler workflows end to end without an account.
+ *
+ * Clusters, ACLs, users, subnet groups and parameter groups are kept in memory. Changes go through the same
+ * intermediate statuses as in the service (e.g. creating, then available) and settle once their transition time has
+ * passed on the virtual clock. Every call advances the clock by the latency of its API, and calls over the configured
+ * rate of an API are throttled, so that a workflow reports how many calls it made and how long it would have taken.
+ */
+public class FakeMemoryDb implements MemoryDbClient {
+
+    public enum Kind {
+        CLUSTER(Duration.ofMinutes(15), Duration.ofMinutes(10), Duration.ofMinutes(5)),
+        ACL(Duration.ofSeconds(30), Duration.ofSeconds(30), Duration.ofSeconds(30)),
+        USER(Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofSeconds(5)),
+        SUBNET_GROUP(Duration.ZERO, Duration.ZERO, Duration.ZERO),
+        PARAMETER_GROUP(Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+        private final Duration create;
+        private final Duration update;
+        private final Duration delete;
+
+        Kind(final Duration create, final Duration update, final Duration delete) {
+            this.create = create;
+            this.update = update;
+            this.delete = delete;
+        }
+    }
+
+    public static final String DEFAULT_ACL_NAME = "open-access";
+    public static final String DEFAULT_USER_NAME = "default";
+    public static final String DEFAULT_FAMILY = "memorydb_redis6";
+    public static final String DEFAULT_ENGINE_VERSION = "6.2";
+
+    private static final String ARN_FORMAT = "arn:aws:memorydb:us-east-1:123456789012:%s/%s";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int DEFAULT_PARAMETERS = 200;
+
+    private final VirtualClock clock;
+    private final Map<String, Duration> latencies = new HashMap<>();
+    private final Map<String, Throttle> throttles = new HashMap<>();
+    private final Map<String, Integer> calls = new TreeMap<>();
+    private final Map<String, Integer> throttledCalls = new TreeMap<>();
+    private final Map<Kind, Duration[]> transitionTimes = new EnumMap<>(Kind.class);
+    private Duration defaultLatency = Duration.ofMillis(50);
+
+    private final Store<Cluster> clusters = new Store<>();
+    private final Store<ACL> acls = new Store<>();
+    private final Store<User> users = new Store<>();
+    private final Store<SubnetGroup> subnetGroups = new Store<>();
+    private final Store<ParameterGroup> parameterGroups = new Store<>();
+    private final Map<String, Map<String, String>> parameters = new HashMap<>();
+    private final Map<String, Map<String, String>> tags = new HashMap<>();
+
+    public FakeMemoryDb(final VirtualClock clock) {
+        this.clock = clock;
+        for (final Kind kind : Kind.values()) {
+            transitionTimes.put(kind, new Duration[] {kind.create, kind.update, kind.delete});
+        }
+        seedDefaults();
+    }
+
+    /**
+     * Sets the latency of every call of the API, e.g. "DescribeClusters".
+     */
+    public FakeMemoryDb latency(final String api, final Duration latency) {
+        latencies.put(api, latency);
+        return this;
+    }
+
+    public FakeMemoryDb defaultLatency(final Duration latency) {
+        this.defaultLatency = latency;
+        return this;
+    }
+
+    /**
+     * Throttles the calls of the API beyond the given rate, allowing bursts of the given size.
+     */
+    public FakeMemoryDb throttle(final String api, final double permitsPerSecond, final int burst) {
+        throttles.put(api, new Throttle(permitsPerSecond, burst));
+        return this;
+    }
+
+    /**
+     * Sets how long the resources of the kind stay in their intermediate status after a create, update or delete.
+     */
+    public FakeMemoryDb transitionTimes(final Kind kind, final Duration create, final Duration update, final Duration delete) {
+        transitionTimes.put(kind, new Duration[] {create, update, delete});
+        return this;
+    }
+
+    /**
+     * Adds an active user without going through the API, e.g. for ACL workflows.
+     */
+    public synchronized FakeMemoryDb withUser(final String userName) {
+        users.put(userName, User.builder()
+                .name(userName)
+                .status("active")
+                .accessString("on ~* &* +@all")
+                .authentication(Authentication.builder().type(AuthenticationType.PASSWORD).passwordCount(1).build())
+                .arn(arn("user", userName))
+                .build(), 0L, UnaryOperator.identity());
+        tags.put(arn("user", userName), new LinkedHashMap<>());
+        return this;
+    }
+
+    public VirtualClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns the number of calls per API, throttled ones included.
+     */
+    public Map<String, Integer> getCalls() {
+        return Collections.unmodifiableMap(calls);
+    }
+
+    public Map<String, Integer> getThrottledCalls() {
+        return Collections.unmodifiableMap(throttledCalls);
+    }
+
+    public int getTotalCalls() {
+        return calls.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public void resetCounters() {
+        calls.clear();
+        throttledCalls.clear();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    // Clusters
+
+    @Override
+    public synchronized CreateClusterResponse createCluster(final CreateClusterRequest request) {
+        return call("CreateCluster", () -> {
+            if (clusters.get(request.clusterName()) != null) {
+                throw ClusterAlreadyExistsException.builder().message("Cluster " + request.clusterName() + " already exists").build();
+            }
+            requireSubnetGroup(request.subnetGroupName());
+            requireParameterGroup(request.parameterGroupName());
+            requireAcl(request.aclName());
+            final int shards = Optional.ofNullable(request.numShards()).orElse(1);
+            final int replicas = Optional.ofNullable(request.numReplicasPerShard()).orElse(1);
+            final String arn = arn("cluster", request.clusterName());
+            final Cluster cluster = Cluster.builder()
+                    .name(request.clusterName())
+                    .description(request.description())
+                    .status("creating")
+                    .nodeType(request.nodeType())
+                    .numberOfShards(shards)
+                    .shards(shards(request.clusterName(), shards, replicas))
+                    .subnetGroupName(Optional.ofNullable(request.subnetGroupName()).orElse("default"))
+                    .securityGroups(securityGroups(request.securityGroupIds()))
+                    .clusterEndpoint(Endpoint.builder()
+                            .address("clustercfg." + request.clusterName() + ".memorydb.amazonaws.com")
+                            .port(Optional.ofNullable(request.port()).orElse(6379))
+                            .build())
+                    .parameterGroupName(Optional.ofNullable(request.parameterGroupName()).orElse("default." + DEFAULT_FAMILY))
+                    .parameterGroupStatus("in-sync")
+                    .engineVersion(Optional.ofNullable(request.engineVersion()).orElse(DEFAULT_ENGINE_VERSION))
+                    .aclName(request.aclName())
+                    .tlsEnabled(Optional.ofNullable(request.tlsEnabled()).orElse(true))
+                    .snsTopicArn(request.snsTopicArn())
+                    .snapshotRetentionLimit(request.snapshotRetentionLimit())
+                    .snapshotWindow(request.snapshotWindow())
+                    .maintenanceWindow(request.maintenanceWindow())
+                    .autoMinorVersionUpgrade(request.autoMinorVersionUpgrade())
+                    .arn(arn)
+                    .build();
+            clusters.put(cluster.name(), cluster, settlesAt(Kind.CLUSTER, 0), settled -> settled.toBuilder().status("available").build());
+            putTags(arn, request.tags());
+            return CreateClusterResponse.builder().cluster(cluster).build();
+        });
+    }
+
+    @Override
+    public synchronized DescribeClustersResponse describeClusters(final DescribeClustersRequest request) {
+        return call("DescribeClusters", () -> {
+            final List<Cluster> found;
+            if (request.clusterName() != null) {
+                found = Collections.singletonList(Optional.ofNullable(clusters.get(request.clusterName()))
+                        .orElseThrow(() -> ClusterNotFoundException.builder().message("Cluster " + request.clusterName() + " not found").build()));
+            } else {
+                found = clusters.values();
+            }
+            final boolean shardDetails = Boolean.TRUE.equals(request.showShardDetails());
+            final Page<Cluster> page = page(found, request.maxResults(), request.nextToken());
+            return DescribeClustersResponse.builder()
+                    .clusters(page.items.stream()
+                            // like the service, shard details are left out unless asked for
+                            .map(cluster -> shardDetails ? cluster : cluster.toBuilder().shards((Collection<Shard>) null).build())
+                            .collect(Collectors.toList()))
+                    .nextToken(page.nextToken)
+                    .build();
+        });
+    }
+
+    @Override
+    public synchronized UpdateClusterResponse updateCluster(final UpdateClusterRequest request) {
+        return call("UpdateCluster", () -> {
+            final Cluster current = Optional.ofNullable(clusters.get(request.clusterName()))
+                    .orElseThrow(() -> ClusterNotFoundException.builder().message("Cluster " + request.clusterName() + " not found").build());
+            final Cluster.Builder builder = current.toBuilder().status("updating");
+            Optional.ofNullable(request.description()).ifPresent(builder::description);
+            Optional.ofNullable(request.nodeType()).ifPresent(builder::nodeType);
+            Optional.ofNullable(request.engineVersion()).ifPresent(builder::engineVersion);
+            Optional.ofNullable(request.maintenanceWindow()).ifPresent(builder::maintenanceWindow);
+            Optional.ofNullable(request.snapshotWindow()).ifPresent(builder::snapshotWindow);
+            Optional.ofNullable(request.snapshotRetentionLimit()).ifPresent(builder::snapshotRetentionLimit);
+            Optional.ofNullable(request.snsTopicArn()).ifPresent(builder::snsTopicArn);
+            Optional.ofNullable(request.snsTopicStatus()).ifPresent(builder::snsTopicStatus);
+            Optional.ofNullable(request.aclName()).ifPresent(aclName -> builder.aclName(requireAcl(aclName)));
+            if (request.hasSecurityGroupIds()) {
+                builder.securityGroups(securityGroups(request.securityGroupIds()));
+            }
+            if (request.parameterGroupName() != null) {
+                builder.parameterGroupName(requireParameterGroup(request.parameterGroupName())).parameterGroupStatus("applying");
+            }
+            final int shards = request.shardConfiguration() != null ? request.shardConfiguration().shardCount() : current.numberOfShards();
+            final int replicas = request.replicaConfiguration() != null
+                    ? request.replicaConfiguration().replicaCount()
+                    : current.shards().stream().mapToInt(Shard::numberOfNodes).min().orElse(1) - 1;
+            builder.numberOfShards(shards).shards(shards(current.name(), shards, replicas));
+            final Cluster cluster = builder.build();
+            clusters.put(cluster.name(), cluster, settlesAt(Kind.CLUSTER, 1),
+                    settled -> settled.toBuilder().status("available").parameterGroupStatus("in-sync").build());
+            return UpdateClusterResponse.builder().cluster(cluster).build();
+        });
+    }
+
+    @Override
+    public synchronized DeleteClusterResponse deleteCluster(final DeleteClusterRequest request) {
+        return call("DeleteCluster", () -> {
+            final Cluster current = Optional.ofNullable(clusters.get(request.clusterName()))
+                    .orElseThrow(() -> ClusterNotFoundException.builder().message("Cluster " + request.clusterName() + " not found").build());
+            final Cluster cluster = current.toBuilder().status("deleting").build();
+            clusters.remove(cluster.name(), cluster, settlesAt(Kind.CLUSTER, 2));
+            return DeleteClusterResponse.builder().cluster(cluster).build();
+        });
+    }
+
+    @Override
+    public synchronized DescribeEventsResponse describeEvents(final DescribeEventsRequest request) {
+        // events are not simulated, stabilizers fall back to describing the resource
+        return call("DescribeEvents", () -> DescribeEventsResponse.builder().events(Collections.emptyList()).build());
+    }
+
+    @Override
+    public synchronized DescribeEngineVersionsResponse describeEngineVersions(final DescribeEngineVersionsRequest request) {
+        return call("DescribeEngineVersions", () -> DescribeEngineVersionsResponse.builder()
+                .engineVersions(EngineVersionInfo.builder()
+                        .engineVersion(DEFAULT_ENGINE_VERSION)
+                        .enginePatchVersion(DEFAULT_ENGINE_VERSION + ".6")
+                        .parameterGroupFamily(DEFAULT_FAMILY)
+                        .build())
+                .build());
+    }
+
+    // ACLs
+
+    @Override
+    public synchronized CreateAclResponse createACL(final CreateAclRequest request) {
+        return call("CreateACL", () -> {
+            if (acls.get(request.aclName()) != null) {
+                throw AclAlreadyExistsException.builder().message("ACL " + request.aclName() + " already exists").build();
+            }
+            request.userNames().forEach(this::requireUser);
+            final ACL acl = ACL.builder()
+                    .name(request.aclName())
+                    .status("creating")
+                    .userNames(request.userNames())
+                    .minimumEngineVersion(DEFAULT_ENGINE_VERSION)
+                    .arn(arn("acl", request.aclName()))
+                    .build();
+            acls.put(acl.name(), acl, settlesAt(Kind.ACL, 0), settled -> settled.toBuilder().status("active").build());
+            putTags(acl.arn(), request.tags());
+            return CreateAclResponse.builder().acl(acl).build();
+        });
+    }
+
+    @Override
+    public synchronized DescribeAcLsResponse describeACLs(final DescribeAcLsRequest request) {
+        return call("DescribeACLs", () -> {
+            final List<ACL> found;
+            if (request.aclName() != null) {
+                found = Collections.singletonList(Optional.ofNullable(acls.get(request.aclName()))
+                        .orElseThrow(() -> AclNotFoundException.builder().message("ACL " + request.aclName() + " not found").build()));
+            } else {
+                found = acls.values();
+            }
+            final Page<ACL> page = page(found, request.maxResults(), request.nextToken());
+            return DescribeAcLsResponse.builder().acLs(page.items).nextToken(page.nextToken).build();
+        });
+    }
+
+    @Override
+    public synchronized UpdateAclResponse updateACL(final UpdateAclRequest request) {
+        return call("UpdateACL", () -> {
+            final ACL current = Optional.ofNullable(acls.get(request.aclName()))
+                    .orElseThrow(() -> AclNotFoundException.builder().message("ACL " + request.aclName() + " not found").build());
+            request.userNamesToAdd().forEach(this::requireUser);
+            final List<String> userNames = new ArrayList<>(current.userNames());
+            userNames.removeAll(request.userNamesToRemove());
+            request.userNamesToAdd().stream().filter(userName -> !userNames.contains(userName)).forEach(userNames::add);
+            final ACL acl = current.toBuilder().status("modifying").userNames(userNames).build();
+            acls.put(acl.name(), acl, settlesAt(Kind.ACL, 1), settled -> settled.toBuilder().status("active").build());
+            return UpdateAclResponse.builder().acl(acl).build();
+        });
+    }
+
+    @Override
+    public synchronized DeleteAclResponse deleteACL(final DeleteAclRequest request) {
+        return call("DeleteACL", () -> {
+            final ACL current = Optional.ofNullable(acls.get(request.aclName()))
+                    .orElseThrow(() -> AclNotFoundException.builder().message("ACL " + request.aclName() + " not found").build());
+            final ACL acl = current.toBuilder().status("deleting").build();
+            acls.remove(acl.name(), acl, settlesAt(Kind.ACL, 2));
+            return DeleteAclResponse.builder().acl(acl).build();
+        });
+    }
+
+    // Users
+
+    @Override
+    public synchronized CreateUserResponse createUser(final CreateUserRequest request) {
+        return call("CreateUser", () -> {
+            if (users.get(request.userName()) != null) {
+                throw UserAlreadyExistsException.builder().message("User " + request.userName() + " already exists").build();
+            }
+            final User user = User.builder()
+                    .name(request.userName())
+                    .status("creating")
+                    .accessString(request.accessString())
+                    .authentication(authentication(request.authenticationMode()))
+                    .minimumEngineVersion(DEFAULT_ENGINE_VERSION)
+                    .arn(arn("user", request.userName()))
+                    .build();
+            users.put(user.name(), user, settlesAt(Kind.USER, 0), settled -> settled.toBuilder().status("active").build());
+            putTags(user.arn(), request.tags());
+            return CreateUserResponse.builder().user(user).build();
+        });
+    }
+
+    @Override
+    public synchronized DescribeUsersResponse describeUsers(final DescribeUsersRequest request) {
+        return call("DescribeUsers", () -> {
+            final List<User> found;
+            if (request.userName() != null) {
+                found = Collections.singletonList(requireUser(request.userName()));
+            } else {
+                found = users.values();
+            }
+            final Page<User> page = page(found, request.maxResults(), request.nextToken());
+            return DescribeUsersResponse.builder().users(page.items).nextToken(page.nextToken).build();
+        });
+    }
+
+    @Override
+    public synchronized UpdateUserResponse updateUser(final UpdateUserRequest request) {
+        return call("UpdateUser", () -> {
+            final User.Builder builder = requireUser(request.userName()).toBuilder().status("modifying");
+            Optional.ofNullable(request.accessString()).ifPresent(builder::accessString);
+            if (request.authenticationMode() != null) {
+                builder.authentication(authentication(request.authenticationMode()));
+            }
+            final User user = builder.build();
+            users.put(user.name(), user, settlesAt(Kind.USER, 1), settled -> settled.toBuilder().status("active").build());
+            return UpdateUserResponse.builder().user(user).build();
+        });
+    }
+
+    @Override
+    public synchronized DeleteUserResponse deleteUser(final DeleteUserRequest request) {
+        return call("DeleteUser", () -> {
+            final User user = requireUser(request.userName()).toBuilder().status("deleting").build();
+            users.remove(user.name(), user, settlesAt(Kind.USER, 2));
+            return DeleteUserResponse.builder().user(user).build();
+        });
+    }
+
+    // Subnet groups
+
+    @Override
+    public synchronized CreateSubnetGroupResponse createSubnetGroup(final CreateSubnetGroupRequest request) {
+        return call("CreateSubnetGroup", () -> {
+            if (subnetGroups.get(request.subnetGroupName()) != null) {
+                throw SubnetGroupAlreadyExistsException.builder()
+                        .message("Subnet group " + request.subnetGroupName() + " already exists").build();
+            }
+            final SubnetGroup subnetGroup = SubnetGroup.builder()
+                    .name(request.subnetGroupName())
+                    .description(request.description())
+                    .vpcId("vpc-fake")
+                    .subnets(subnets(request.subnetIds()))
+                    .arn(arn("subnetgroup", request.subnetGroupName()))
+                    .build();
+            subnetGroups.put(subnetGroup.name(), subnetGroup, settlesAt(Kind.SUBNET_GROUP, 0), UnaryOperator.identity());
+            putTags(subnetGroup.arn(), request.tags());
+            return CreateSubnetGroupResponse.builder().subnetGroup(subnetGroup).build();
+        });
+    }
+
+    @Override
+    public synchronized DescribeSubnetGroupsResponse describeSubnetGroups(final DescribeSubnetGroupsRequest request) {
+        return call("DescribeSubnetGroups", () -> {
+            final List<SubnetGroup> found = request.subnetGroupName() != null
+                    ? Collections.singletonList(requireSubnetGroupByName(request.subnetGroupName()))
+                    : subnetGroups.values();
+            final Page<SubnetGroup> page = page(found, request.maxResults(), request.nextToken());
+            return DescribeSubnetGroupsResponse.builder().subnetGroups(page.items).nextToken(page.nextToken).build();
+        });
+    }
+
+    @Override
+    public synchronized UpdateSubnetGroupResponse updateSubnetGroup(final UpdateSubnetGroupRequest request) {
+        return call("UpdateSubnetGroup", () -> {
+            final SubnetGroup.Builder builder = requireSubnetGroupByName(request.subnetGroupName()).toBuilder();
+            Optional.ofNullable(request.description()).ifPresent(builder::description);
+            if (request.hasSubnetIds()) {
+                builder.subnets(subnets(request.subnetIds()));
+            }
+            final SubnetGroup subnetGroup = builder.build();
+            subnetGroups.put(subnetGroup.name(), subnetGroup, settlesAt(Kind.SUBNET_GROUP, 1), UnaryOperator.identity());
+            return UpdateSubnetGroupResponse.builder().subnetGroup(subnetGroup).build();
+        });
+    }
+
+    @Override
+    public synchronized DeleteSubnetGroupResponse deleteSubnetGroup(final DeleteSubnetGroupRequest request) {
+        return call("DeleteSubnetGroup", () -> {
+            final SubnetGroup subnetGroup = requireSubnetGroupByName(request.subnetGroupName());
+            subnetGroups.remove(subnetGroup.name(), subnetGroup, settlesAt(Kind.SUBNET_GROUP, 2));
+            return DeleteSubnetGroupResponse.builder().subnetGroup(subnetGroup).build();
+        });
+    }
+
+    // Parameter groups
+
+    @Override
+    public synchronized CreateParameterGroupResponse createParameterGroup(final CreateParameterGroupRequest request) {
+        return call("CreateParameterGroup", () -> {
+            if (parameterGroups.get(request.parameterGroupName()) != null) {
+                throw ParameterGroupAlreadyExistsException.builder()
+                        .message("Parameter group " + request.parameterGroupName() + " already exists").build();
+            }
+            final Map<String, String> defaults = parameters.get("default." + request.family());
+            if (defaults == null) {
+                throw invalidParameter("Unknown family " + request.family());
+            }
+            final ParameterGroup parameterGroup = ParameterGroup.builder()
+                    .name(request.parameterGroupName())
+                    .family(request.family())
+                    .description(request.description())
+                    .arn(arn("parametergroup", request.parameterGroupName()))
+                    .build();
+            parameterGroups.put(parameterGroup.name(), parameterGroup, settlesAt(Kind.PARAMETER_GROUP, 0), UnaryOperator.identity());
+            parameters.put(parameterGroup.name(), new TreeMap<>(defaults));
+            putTags(parameterGroup.arn(), request.tags());
+            return CreateParameterGroupResponse.builder().parameterGroup(parameterGroup).build();
+        });
+    }
+
+    @Override
+    public synchronized DescribeParameterGroupsResponse describeParameterGroups(final DescribeParameterGroupsRequest request) {
+        return call("DescribeParameterGroups", () -> {
+            final List<ParameterGroup> found = request.parameterGroupName() != null
+                    ? Collections.singletonList(requireParameterGroupByName(request.parameterGroupName()))
+                    : parameterGroups.values();
+            final Page<ParameterGroup> page = page(found, request.maxResults(), request.nextToken());
+            return DescribeParameterGroupsResponse.builder().parameterGroups(page.items).nextToken(page.nextToken).build();
+        });
+    }
+
+    @Override
+    public synchronized DescribeParametersResponse describeParameters(final DescribeParametersRequest request) {
+        return call("DescribeParameters", () -> {
+            requireParameterGroupByName(request.parameterGroupName());
+            final List<Parameter> all = parameters.get(request.parameterGroupName()).entrySet().stream()
+                    .map(parameter -> Parameter.builder()
+                            .name(parameter.getKey())
+                            .value(parameter.getValue())
+                            .dataType("integer")
+                            .minimumEngineVersion(DEFAULT_ENGINE_VERSION)
+                            .build())
+                    .collect(Collectors.toList());
+            final Page<Parameter> page = page(all, request.maxResults(), request.nextToken());
+            return DescribeParametersResponse.builder().parameters(page.items).nextToken(page.nextToken).build();
+        });
+    }
+
+    @Override
+    public synchronized UpdateParameterGroupResponse updateParameterGroup(final UpdateParameterGroupRequest request) {
+        return call("UpdateParameterGroup", () -> {
+            final ParameterGroup parameterGroup = requireParameterGroupByName(request.parameterGroupName());
+            if (request.parameterNameValues().size() > 20) {
+                throw invalidParameter("At most 20 parameters can be updated at once");
+            }
+            final Map<String, String> values = parameters.get(parameterGroup.name());
+            for (final ParameterNameValue parameter : request.parameterNameValues()) {
+                values.put(parameter.parameterName(), parameter.parameterValue());
+            }
+            // clusters using the group apply the change
+            for (final Cluster cluster : clusters.values()) {
+                if (parameterGroup.name().equals(cluster.parameterGroupName())) {
+                    clusters.put(cluster.name(), cluster.toBuilder().parameterGroupStatus("applying").build(), settlesAt(Kind.CLUSTER, 1),
+                            settled -> settled.toBuilder().parameterGroupStatus("in-sync").build());
+                }
+            }
+            return UpdateParameterGroupResponse.builder().parameterGroup(parameterGroup).build();
+        });
+    }
+
+    @Override
+    public synchronized DeleteParameterGroupResponse deleteParameterGroup(final DeleteParameterGroupRequest request) {
+        return call("DeleteParameterGroup", () -> {
+            final ParameterGroup parameterGroup = requireParameterGroupByName(request.parameterGroupName());
+            parameterGroups.remove(parameterGroup.name(), parameterGroup, settlesAt(Kind.PARAMETER_GROUP, 2));
+            return DeleteParameterGroupResponse.builder().parameterGroup(parameterGroup).build();
+        });
+    }
+
+    // Tags
+
+    @Override
+    public synchronized ListTagsResponse listTags(final ListTagsRequest request) {
+        return call("ListTags", () -> ListTagsResponse.builder().tagList(tagList(requireTags(request.resourceArn()))).build());
+    }
+
+    @Override
+    public synchronized TagResourceResponse tagResource(final TagResourceRequest request) {
+        return call("TagResource", () -> {
+            final Map<String, String> resourceTags = requireTags(request.resourceArn());
+            request.tags().forEach(tag -> resourceTags.put(tag.key(), tag.value()));
+            return TagResourceResponse.builder().tagList(tagList(resourceTags)).build();
+        });
+    }
+
+    @Override
+    public synchronized UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        return call("UntagResource", () -> {
+            final Map<String, String> resourceTags = requireTags(request.resourceArn());
+            request.tagKeys().forEach(resourceTags::remove);
+            return UntagResourceResponse.builder().tagList(tagList(resourceTags)).build();
+        });
+    }
+
+    /**
+     * Counts the call, throttles it if its API is over its rate, and otherwise advances the clock by its latency and
+     * runs it.
+     */
+    private <T> T call(final String api, final Supplier<T> call) {
+        calls.merge(api, 1, Integer::sum);
+        final Throttle throttle = throttles.get(api);
+        if (throttle != null && !throttle.tryAcquire(clock.millis())) {
+            throttledCalls.merge(api, 1, Integer::sum);
+            throw MemoryDbException.builder()
+                    .message("Rate exceeded")
+                    .statusCode(400)
+                    .awsErrorDetails(AwsErrorDetails.builder()
+                            .errorCode("ThrottlingException")
+                            .errorMessage("Rate exceeded")
+                            .serviceName(SERVICE_NAME)
+                            .build())
+                    .build();
+        }
+        clock.advance(latencies.getOrDefault(api, defaultLatency));
+        return call.get();
+    }
+
+    private long settlesAt(final Kind kind, final int transition) {
+        return clock.millis() + transitionTimes.get(kind)[transition].toMillis();
+    }
+
+    private void seedDefaults() {
+        final String defaultGroup = "default." + DEFAULT_FAMILY;
+        parameterGroups.put(defaultGroup, ParameterGroup.builder()
+                .name(defaultGroup)
+                .family(DEFAULT_FAMILY)
+                .description("Default parameter group for " + DEFAULT_FAMILY)
+                .arn(arn("parametergroup", defaultGroup))
+                .build(), 0L, UnaryOperator.identity());
+        parameters.put(defaultGroup, IntStream.range(0, DEFAULT_PARAMETERS).boxed()
+                .collect(Collectors.toMap(i -> "param-" + i, i -> "0", (first, second) -> first, TreeMap::new)));
+        tags.put(arn("parametergroup", defaultGroup), new LinkedHashMap<>());
+        subnetGroups.put("default", SubnetGroup.builder()
+                .name("default")
+                .description("Default subnet group")
+                .vpcId("vpc-fake")
+                .subnets(subnets(Collections.singletonList("subnet-default")))
+                .arn(arn("subnetgroup", "default"))
+                .build(), 0L, UnaryOperator.identity());
+        tags.put(arn("subnetgroup", "default"), new LinkedHashMap<>());
+        users.put(DEFAULT_USER_NAME, User.builder()
+                .name(DEFAULT_USER_NAME)
+                .status("active")
+                .accessString("on ~* &* +@all")
+                .authentication(Authentication.builder().type(AuthenticationType.NO_PASSWORD).build())
+                .arn(arn("user", DEFAULT_USER_NAME))
+                .build(), 0L, UnaryOperator.identity());
+        tags.put(arn("user", DEFAULT_USER_NAME), new LinkedHashMap<>());
+        acls.put(DEFAULT_ACL_NAME, ACL.builder()
+                .name(DEFAULT_ACL_NAME)
+                .status("active")
+                .userNames(Collections.singletonList(DEFAULT_USER_NAME))
+                .arn(arn("acl", DEFAULT_ACL_NAME))
+                .build(), 0L, UnaryOperator.identity());
+        tags.put(arn("acl", DEFAULT_ACL_NAME), new LinkedHashMap<>());
+    }
+
+    private String requireAcl(final String aclName) {
+        if (aclName != null && acls.get(aclName) == null) {
+            throw AclNotFoundException.builder().message("ACL " + aclName + " not found").build();
+        }
+        return aclName;
+    }
+
+    private User requireUser(final String userName) {
+        return Optional.ofNullable(users.get(userName))
+                .orElseThrow(() -> UserNotFoundException.builder().message("User " + userName + " not found").build());
+    }
+
+    private void requireSubnetGroup(final String subnetGroupName) {
+        if (subnetGroupName != null) {
+            requireSubnetGroupByName(subnetGroupName);
+        }
+    }
+
+    private SubnetGroup requireSubnetGroupByName(final String subnetGroupName) {
+        return Optional.ofNullable(subnetGroups.get(subnetGroupName))
+                .orElseThrow(() -> SubnetGroupNotFoundException.builder().message("Subnet group " + subnetGroupName + " not found").build());
+    }
+
+    private String requireParameterGroup(final String parameterGroupName) {
+        if (parameterGroupName != null) {
+            requireParameterGroupByName(parameterGroupName);
+        }
+        return parameterGroupName;
+    }
+
+    private ParameterGroup requireParameterGroupByName(final String parameterGroupName) {
+        return Optional.ofNullable(parameterGroups.get(parameterGroupName))
+                .orElseThrow(() -> ParameterGroupNotFoundException.builder()
+                        .message("Parameter group " + parameterGroupName + " not found").build());
+    }
+
+    private Map<String, String> requireTags(final String arn) {
+        final Map<String, String> resourceTags = tags.get(arn);
+        if (resourceTags == null || !exists(arn)) {
+            throw InvalidArnException.builder().message("No resource with ARN " + arn).build();
+        }
+        return resourceTags;
+    }
+
+    private boolean exists(final String arn) {
+        final String[] typeAndName = arn.substring(arn.lastIndexOf(':') + 1).split("/", 2);
+        switch (typeAndName[0]) {
+            case "cluster":
+                return clusters.get(typeAndName[1]) != null;
+            case "acl":
+                return acls.get(typeAndName[1]) != null;
+            case "user":
+                return users.get(typeAndName[1]) != null;
+            case "subnetgroup":
+                return subnetGroups.get(typeAndName[1]) != null;
+            case "parametergroup":
+                return parameterGroups.get(typeAndName[1]) != null;
+            default:
+                return false;
+        }
+    }
+
+    private void putTags(final String arn, final Collection<Tag> resourceTags) {
+        final Map<String, String> values = new LinkedHashMap<>();
+        if (resourceTags != null) {
+            resourceTags.forEach(tag -> values.put(tag.key(), tag.value()));
+        }
+        tags.put(arn, values);
+    }
+
+    private static List<Tag> tagList(final Map<String, String> resourceTags) {
+        return resourceTags.entrySet().stream()
+                .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                .collect(Collectors.toList());
+    }
+
+    private static String arn(final String type, final String name) {
+        return String.format(ARN_FORMAT, type, name);
+    }
+
+    private static AwsServiceException invalidParameter(final String message) {
+        return MemoryDbException.builder()
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("InvalidParameterValue").errorMessage(message).build())
+                .build();
+    }
+
+    private static Authentication authentication(final software.amazon.awssdk.services.memorydb.model.AuthenticationMode mode) {
+        if (mode == null || !mode.hasPasswords() || mode.passwords().isEmpty()) {
+            return Authentication.builder().type(AuthenticationType.NO_PASSWORD).build();
+        }
+        return Authentication.builder().type(AuthenticationType.PASSWORD).passwordCount(mode.passwords().size()).build();
+    }
+
+    private static List<Shard> shards(final String clusterName, final int shards, final int replicas) {
+        return IntStream.range(0, shards)
+                .mapToObj(shard -> Shard.builder()
+                        .name(String.format("%04d", shard + 1))
+                        .status("available")
+                        .numberOfNodes(replicas + 1)
+                        .nodes(IntStream.rangeClosed(0, replicas)
+                                .mapToObj(node -> Node.builder()
+                                        .name(String.format("%s-%04d-%03d", clusterName, shard + 1, node + 1))
+                                        .status("available")
+                                        .availabilityZone("us-east-1" + (char) ('a' + node % 3))
+                                        .build())
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<SecurityGroupMembership> securityGroups(final Collection<String> securityGroupIds) {
+        return Optional.ofNullable(securityGroupIds).orElse(Collections.emptyList()).stream()
+                .map(id -> SecurityGroupMembership.builder().securityGroupId(id).status("active").build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<Subnet> subnets(final Collection<String> subnetIds) {
+        final List<Subnet> subnets = new ArrayList<>();
+        int zone = 0;
+        for (final String subnetId : Optional.ofNullable(subnetIds).orElse(Collections.emptyList())) {
+            subnets.add(Subnet.builder()
+                    .identifier(subnetId)
+                    .availabilityZone(AvailabilityZone.builder().name("us-east-1" + (char) ('a' + zone++ % 3)).build())
+                    .build());
+        }
+        return subnets;
+    }
+
+    private static <T> Page<T> page(final List<T> all, final Integer maxResults, final String nextToken) {
+        final int from = nextToken != null ? Integer.parseInt(nextToken) : 0;
+        final int to = Math.min(all.size(), from + (maxResults != null ? maxResults : DEFAULT_PAGE_SIZE));
+        return new Page<>(new ArrayList<>(all.subList(Math.min(from, to), to)), to < all.size() ? String.valueOf(to) : null);
+    }
+
+    private static final class Page<T> {
+        private final List<T> items;
+        private final String nextToken;
+
+        private Page(final List<T> items, final String nextToken) {
+            this.items = items;
+            this.nextToken = nextToken;
+        }
+    }
+
+    /**
+     * Token bucket on the virtual clock.
+     */
+    private static final class Throttle {
+        private final double permitsPerMilli;
+        private final int burst;
+        private double permits;
+        private long lastRefill;
+
+        private Throttle(final double permitsPerSecond, final int burst) {
+            this.permitsPerMilli = permitsPerSecond / 1000.0;
+            this.burst = Math.max(1, burst);
+            this.permits = this.burst;
+        }
+
+        private boolean tryAcquire(final long now) {
+            permits = Math.min(burst, permits + (now - lastRefill) * permitsPerMilli);
+            lastRefill = now;
+            if (permits < 1.0) {
+                return false;
+            }
+            permits -= 1.0;
+            return true;
+        }
+    }
+
+    /**
+     * Resources of one kind by name. A change made at a given time is seen in its intermediate state until its
+     * transition time has passed, then settles: the resource takes its final state, or disappears after a delete.
+     */
+    private final class Store<T> {
+        private final Map<String, Entry<T>> entries = new LinkedHashMap<>();
+
+        T get(final String name) {
+            final Entry<T> entry = entries.get(name);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.settle != null && clock.millis() >= entry.settlesAt) {
+                if (entry.removed) {
+                    entries.remove(name);
+                    return null;
+                }
+                entry.value = entry.settle.apply(entry.value);
+                entry.settle = null;
+            }
+            return entry.value;
+        }
+
+        List<T> values() {
+            return new ArrayList<>(entries.keySet()).stream()
+                    .map(this::get)
+                    .filter(value -> value != null)
+                    .collect(Collectors.toList());
+        }
+
+        void put(final String name, final T value, final long settlesAt, final UnaryOperator<T> settle) {
+            entries.put(name, new Entry<>(value, settlesAt, settle, false));
+        }
+
+        void remove(final String name, final T value, final long settlesAt) {
+            entries.put(name, new Entry<>(value, settlesAt, UnaryOperator.identity(), true));
+        }
+    }
+
+    private static final class Entry<T> {
+        private T value;
+        private final long settlesAt;
+        private UnaryOperator<T> settle;
+        private final boolean removed;
+
+        private Entry(final T value, final long settlesAt, final UnaryOperator<T> settle, final boolean removed) {
+            this.value = value;
+            this.settlesAt = settlesAt;
+            this.settle = settle;
+            this.removed = removed;
+        }
+    }
+}
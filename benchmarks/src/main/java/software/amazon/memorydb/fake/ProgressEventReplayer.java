@@ -0,0 +1,112 @@
+package software.amazon.memorydb.fake;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+/**
+ * Drives a handler the way CloudFormation does: invokes it, and while it reports IN_PROGRESS, waits for the callback
+ * delay on the virtual clock and invokes it again with the returned model and callback context. The callback context
+ * goes through JSON between invocations, so that state the handler does not persist is lost like in the service.
+ */
+public final class ProgressEventReplayer {
+
+    // CloudFormation never calls a handler back right away
+    public static final Duration MIN_CALLBACK_DELAY = Duration.ofSeconds(1);
+    // Handlers that report throttling are invoked again by CloudFormation
+    public static final Duration THROTTLING_RETRY_DELAY = Duration.ofSeconds(10);
+    public static final int MAX_THROTTLING_RETRIES = 5;
+    public static final int MAX_INVOCATIONS = 1000;
+
+    @FunctionalInterface
+    public interface Invocation<M, C> {
+        ProgressEvent<M, C> invoke(M model, C callbackContext);
+    }
+
+    private final FakeMemoryDb memoryDb;
+    private final ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public ProgressEventReplayer(final FakeMemoryDb memoryDb) {
+        this.memoryDb = memoryDb;
+    }
+
+    public <M, C> WorkflowResult replay(final String name,
+                                        final M model,
+                                        final Class<C> contextType,
+                                        final Invocation<M, C> invocation) {
+        final VirtualClock clock = memoryDb.getClock();
+        final long start = clock.millis();
+        final Map<String, Integer> callsBefore = new HashMap<>(memoryDb.getCalls());
+        final Map<String, Integer> throttledBefore = new HashMap<>(memoryDb.getThrottledCalls());
+
+        M currentModel = model;
+        C callbackContext = null;
+        int invocations = 0;
+        int throttlingRetries = 0;
+        ProgressEvent<M, C> event;
+        while (true) {
+            invocations++;
+            event = invoke(invocation, currentModel, callbackContext);
+            if (event.isFailed() && event.getErrorCode() == HandlerErrorCode.Throttling && throttlingRetries++ < MAX_THROTTLING_RETRIES) {
+                clock.advance(THROTTLING_RETRY_DELAY);
+                continue;
+            }
+            if (!event.isInProgress() || invocations >= MAX_INVOCATIONS) {
+                break;
+            }
+            if (event.getResourceModel() != null) {
+                currentModel = event.getResourceModel();
+            }
+            callbackContext = roundTrip(event.getCallbackContext(), contextType);
+            final Duration delay = Duration.ofSeconds(event.getCallbackDelaySeconds());
+            clock.advance(delay.compareTo(MIN_CALLBACK_DELAY) > 0 ? delay : MIN_CALLBACK_DELAY);
+        }
+
+        return new WorkflowResult(name, event.getStatus(), event.getErrorCode(), event.getMessage(), invocations,
+                Duration.ofMillis(clock.millis() - start), delta(memoryDb.getCalls(), callsBefore),
+                delta(memoryDb.getThrottledCalls(), throttledBefore).values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    /**
+     * Invokes the handler, reporting exceptions as failures like the handler wrapper does.
+     */
+    private static <M, C> ProgressEvent<M, C> invoke(final Invocation<M, C> invocation, final M model, final C callbackContext) {
+        try {
+            return invocation.invoke(model, callbackContext);
+        } catch (final BaseHandlerException e) {
+            return ProgressEvent.failed(model, callbackContext, e.getErrorCode(), e.getMessage());
+        } catch (final RuntimeException e) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InternalFailure, e.toString());
+        }
+    }
+
+    private <C> C roundTrip(final C callbackContext, final Class<C> contextType) {
+        if (callbackContext == null) {
+            return null;
+        }
+        try {
+            return mapper.readValue(mapper.writeValueAsString(callbackContext), contextType);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Integer> delta(final Map<String, Integer> after, final Map<String, Integer> before) {
+        final Map<String, Integer> delta = new HashMap<>();
+        after.forEach((api, count) -> {
+            final int calls = count - before.getOrDefault(api, 0);
+            if (calls > 0) {
+                delta.put(api, calls);
+            }
+        });
+        return delta;
+    }
+}
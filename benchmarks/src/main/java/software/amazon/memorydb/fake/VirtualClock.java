@@ -0,0 +1,31 @@
+package software.amazon.memorydb.fake;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulated time shared by the fake service and the workflow driver. Time only moves when it is advanced: by the
+ * latency of a call, a retry wait, or the callback delay between two handler invocations.
+ */
+public final class VirtualClock {
+
+    private final AtomicLong nowMillis = new AtomicLong();
+
+    public long millis() {
+        return nowMillis.get();
+    }
+
+    public Duration elapsed() {
+        return Duration.ofMillis(nowMillis.get());
+    }
+
+    public void advance(final Duration duration) {
+        advanceMillis(duration.toMillis());
+    }
+
+    public void advanceMillis(final long millis) {
+        if (millis > 0) {
+            nowMillis.addAndGet(millis);
+        }
+    }
+}
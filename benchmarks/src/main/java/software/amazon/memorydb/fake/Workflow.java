@@ -0,0 +1,16 @@
+package software.amazon.memorydb.fake;
+
+import java.util.List;
+
+/**
+ * A resource lifecycle, e.g. create, update and delete, replayed against the fake service.
+ */
+public interface Workflow {
+
+    String getName();
+
+    /**
+     * Runs every operation of the lifecycle in order, stopping at the first one that does not succeed.
+     */
+    List<WorkflowResult> run(FakeMemoryDb memoryDb);
+}
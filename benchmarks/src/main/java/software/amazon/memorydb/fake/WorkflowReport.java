@@ -0,0 +1,41 @@
+package software.amazon.memorydb.fake;
+
+import java.util.Arrays;
+import java.util.List;
+
+import software.amazon.memorydb.acl.AclWorkflow;
+import software.amazon.memorydb.cluster.ClusterWorkflow;
+import software.amazon.memorydb.parametergroup.ParameterGroupWorkflow;
+import software.amazon.memorydb.subnetgroup.SubnetGroupWorkflow;
+import software.amazon.memorydb.user.UserWorkflow;
+
+/**
+ * Replays the lifecycle of every resource against a fresh fake service and prints, per operation, the number of
+ * handler invocations, the API calls made and the simulated time it took.
+ *
+ * Run with "throttled" as argument to throttle the describe and tagging calls, e.g. to see the cost of retries.
+ */
+public final class WorkflowReport {
+
+    private static final List<String> THROTTLED_APIS = Arrays.asList(
+            "DescribeClusters", "DescribeACLs", "DescribeUsers", "DescribeSubnetGroups", "DescribeParameterGroups",
+            "DescribeParameters", "ListTags", "TagResource", "UntagResource");
+
+    private WorkflowReport() {
+    }
+
+    public static void main(final String[] args) {
+        final boolean throttled = Arrays.asList(args).contains("throttled");
+        final List<Workflow> workflows = Arrays.asList(
+                new SubnetGroupWorkflow(), new ParameterGroupWorkflow(), new UserWorkflow(), new AclWorkflow(), new ClusterWorkflow());
+        for (final Workflow workflow : workflows) {
+            final FakeMemoryDb memoryDb = new FakeMemoryDb(new VirtualClock());
+            if (throttled) {
+                THROTTLED_APIS.forEach(api -> memoryDb.throttle(api, 1.0, 2));
+            }
+            System.out.println(workflow.getName());
+            workflow.run(memoryDb).forEach(result -> System.out.println("  " + result));
+            System.out.println(String.format("  total: %d calls, %s simulated", memoryDb.getTotalCalls(), memoryDb.getClock().elapsed()));
+        }
+    }
+}
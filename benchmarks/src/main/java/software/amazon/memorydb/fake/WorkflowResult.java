@@ -0,0 +1,87 @@
+package software.amazon.memorydb.fake;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+
+/**
+ * Outcome of one handler operation replayed against the fake service.
+ */
+public final class WorkflowResult {
+
+    private final String name;
+    private final OperationStatus status;
+    private final HandlerErrorCode errorCode;
+    private final String message;
+    private final int invocations;
+    private final Duration simulatedTime;
+    private final Map<String, Integer> calls;
+    private final int throttledCalls;
+
+    WorkflowResult(final String name,
+                   final OperationStatus status,
+                   final HandlerErrorCode errorCode,
+                   final String message,
+                   final int invocations,
+                   final Duration simulatedTime,
+                   final Map<String, Integer> calls,
+                   final int throttledCalls) {
+        this.name = name;
+        this.status = status;
+        this.errorCode = errorCode;
+        this.message = message;
+        this.invocations = invocations;
+        this.simulatedTime = simulatedTime;
+        this.calls = new TreeMap<>(calls);
+        this.throttledCalls = throttledCalls;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public OperationStatus getStatus() {
+        return status;
+    }
+
+    public HandlerErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public int getInvocations() {
+        return invocations;
+    }
+
+    public Duration getSimulatedTime() {
+        return simulatedTime;
+    }
+
+    /**
+     * Returns the number of calls per API made by the operation, throttled ones included.
+     */
+    public Map<String, Integer> getCalls() {
+        return calls;
+    }
+
+    public int getTotalCalls() {
+        return calls.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public int getThrottledCalls() {
+        return throttledCalls;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-28s %-8s %5d invocations %6d calls (%d throttled) %10s simulated %s%s",
+                name, status, invocations, getTotalCalls(), throttledCalls, simulatedTime, calls,
+                errorCode != null ? " " + errorCode + ": " + message : "");
+    }
+}
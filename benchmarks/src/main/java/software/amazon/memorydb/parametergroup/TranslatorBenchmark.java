@@ -0,0 +1,99 @@
+package software.amazon.memorydb.parametergroup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+import software.amazon.awssdk.services.memorydb.model.UpdateParameterGroupRequest;
+
+/**
+ * Parameter diffing and translations done on parameter group update, on synthetic groups of the given number of
+ * parameters of which one in ten changed, and 50 tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final int TAGS = 50;
+
+    @Param({"10", "200"})
+    public int parameters;
+
+    private ResourceModel model;
+    private Map<String, Object> desiredParameters;
+    private Map<String, Object> previousParameters;
+    private List<Parameter> changedParameters;
+    private Map<String, String> tags;
+    private List<software.amazon.awssdk.services.memorydb.model.Tag> sdkTags;
+
+    @Setup
+    public void setup() {
+        desiredParameters = new HashMap<>();
+        previousParameters = new HashMap<>();
+        for (int i = 0; i < parameters; i++) {
+            // numbers and booleans, as templates give them, compared with the strings the service returns
+            final Object value = i % 2 == 0 ? Integer.valueOf(i) : Boolean.TRUE;
+            desiredParameters.put("param-" + i, value);
+            previousParameters.put("param-" + i, i % 10 == 0 ? "changed" : String.valueOf(value));
+        }
+        model = ResourceModel.builder()
+                .parameterGroupName("bench-parameter-group")
+                .family("memorydb_redis6")
+                .parameters(desiredParameters)
+                .build();
+        changedParameters = ParameterDiff.changed(desiredParameters, previousParameters).entrySet().stream()
+                .map(kv -> Parameter.builder().name(kv.getKey()).value(kv.getValue()).build())
+                .collect(Collectors.toList());
+        tags = new HashMap<>();
+        for (int i = 0; i < TAGS; i++) {
+            tags.put("key-" + i, "value-" + i);
+        }
+        sdkTags = new ArrayList<>(Translator.translateTagsToSdk(tags));
+    }
+
+    @Benchmark
+    public boolean isModified() {
+        return ParameterDiff.isModified(desiredParameters, previousParameters);
+    }
+
+    @Benchmark
+    public Map<String, String> changed() {
+        return ParameterDiff.changed(desiredParameters, previousParameters);
+    }
+
+    @Benchmark
+    public UpdateParameterGroupRequest translateToUpdateRequest() {
+        return Translator.translateToUpdateRequest(model, changedParameters);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.memorydb.model.Tag> translateTagsToSdk() {
+        return Translator.translateTagsToSdk(tags);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromSdk() {
+        return Translator.translateTagsFromSdk(sdkTags);
+    }
+}
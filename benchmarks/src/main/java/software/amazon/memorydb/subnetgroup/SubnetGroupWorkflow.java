@@ -0,0 +1,90 @@
+package software.amazon.memorydb.subnetgroup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.awssdk.services.memorydb.MemoryDbClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.memorydb.fake.FakeMemoryDb;
+import software.amazon.memorydb.fake.ProgressEventReplayer;
+import software.amazon.memorydb.fake.Workflow;
+import software.amazon.memorydb.fake.WorkflowResult;
+
+/**
+ * Creates, reads, updates and deletes a subnet group against the fake service.
+ */
+public final class SubnetGroupWorkflow implements Workflow {
+
+    private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final Map<String, String> TAGS = Collections.singletonMap("workflow", "subnetgroup");
+
+    @Override
+    public String getName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public List<WorkflowResult> run(final FakeMemoryDb memoryDb) {
+        // retries wait on the virtual clock, and waits between polls become callbacks
+        final HandlerEnvironment environment = HandlerEnvironment.DEFAULT
+                .withClock(memoryDb.getClock()::millis)
+                .withSleeper(memoryDb.getClock()::advanceMillis);
+        final LoggerProxy logger = new LoggerProxy();
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, CREDENTIALS, () -> 0L);
+        final ProxyClient<MemoryDbClient> proxyClient = proxy.newProxy(() -> memoryDb);
+        final ProgressEventReplayer replayer = new ProgressEventReplayer(memoryDb);
+
+        final ResourceModel created = ResourceModel.builder()
+                .subnetGroupName("workflow-subnet-group")
+                .description("workflow subnet group")
+                .subnetIds(new HashSet<>(Arrays.asList("subnet-1", "subnet-2")))
+                .build();
+        final ResourceModel updated = ResourceModel.builder()
+                .subnetGroupName(created.getSubnetGroupName())
+                .description(created.getDescription())
+                .subnetIds(new HashSet<>(Arrays.asList("subnet-1", "subnet-2", "subnet-3")))
+                .build();
+
+        final List<WorkflowResult> results = new ArrayList<>();
+        if (add(results, replayer.replay("Subnet group create", created, CallbackContext.class,
+                (model, context) -> new CreateHandler(environment).handleRequest(proxy, request(model, null), orNew(context), proxyClient, logger)))
+                && add(results, replayer.replay("Subnet group read", created, CallbackContext.class,
+                (model, context) -> new ReadHandler(environment).handleRequest(proxy, request(model, null), orNew(context), proxyClient, logger)))
+                && add(results, replayer.replay("Subnet group update", updated, CallbackContext.class,
+                (model, context) -> new UpdateHandler(environment).handleRequest(proxy, request(model, created), orNew(context), proxyClient, logger)))) {
+            add(results, replayer.replay("Subnet group delete", updated, CallbackContext.class,
+                    (model, context) -> new DeleteHandler(environment).handleRequest(proxy, request(model, null), orNew(context), proxyClient, logger)));
+        }
+        return results;
+    }
+
+    private static boolean add(final List<WorkflowResult> results, final WorkflowResult result) {
+        results.add(result);
+        return result.getStatus() == OperationStatus.SUCCESS;
+    }
+
+    private static CallbackContext orNew(final CallbackContext callbackContext) {
+        return callbackContext != null ? callbackContext : new CallbackContext();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .desiredResourceTags(TAGS)
+                .previousResourceTags(previous != null ? TAGS : null)
+                .awsPartition("aws")
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+    }
+}
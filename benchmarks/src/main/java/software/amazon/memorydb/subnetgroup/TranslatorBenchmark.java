@@ -0,0 +1,100 @@
+package software.amazon.memorydb.subnetgroup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.memorydb.model.AvailabilityZone;
+import software.amazon.awssdk.services.memorydb.model.CreateSubnetGroupRequest;
+import software.amazon.awssdk.services.memorydb.model.Subnet;
+import software.amazon.awssdk.services.memorydb.model.SubnetGroup;
+
+/**
+ * Translations done on every subnet group handler invocation, on a synthetic subnet group of the given number of
+ * subnets and 50 tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final int TAGS = 50;
+
+    @Param({"1", "20"})
+    public int subnets;
+
+    private SubnetGroup subnetGroup;
+    private ResourceModel model;
+    private ResourceModel desiredModel;
+    private Map<String, String> tags;
+    private List<software.amazon.awssdk.services.memorydb.model.Tag> sdkTags;
+
+    @Setup
+    public void setup() {
+        subnetGroup = SubnetGroup.builder()
+                .name("bench-subnet-group")
+                .description("benchmark subnet group")
+                .vpcId("vpc-0")
+                .subnets(IntStream.range(0, subnets)
+                        .mapToObj(i -> Subnet.builder()
+                                .identifier("subnet-" + i)
+                                .availabilityZone(AvailabilityZone.builder().name("us-east-1" + (char) ('a' + i % 3)).build())
+                                .build())
+                        .collect(Collectors.toList()))
+                .arn("arn:aws:memorydb:us-east-1:123456789012:subnetgroup/bench-subnet-group")
+                .build();
+        model = Translator.translateFromDescribeSubnetGroupResponse(subnetGroup);
+        // an equal model that does not share the collections of the current one
+        desiredModel = Translator.translateFromDescribeSubnetGroupResponse(subnetGroup);
+        tags = new HashMap<>();
+        for (int i = 0; i < TAGS; i++) {
+            tags.put("key-" + i, "value-" + i);
+        }
+        sdkTags = new ArrayList<>(Translator.translateTagsToSdk(tags));
+    }
+
+    @Benchmark
+    public ResourceModel translateFromDescribeSubnetGroupResponse() {
+        return Translator.translateFromDescribeSubnetGroupResponse(subnetGroup);
+    }
+
+    @Benchmark
+    public boolean isModified() {
+        return Translator.isModified(desiredModel.getSubnetIds(), model.getSubnetIds());
+    }
+
+    @Benchmark
+    public CreateSubnetGroupRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model, tags);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.memorydb.model.Tag> translateTagsToSdk() {
+        return Translator.translateTagsToSdk(tags);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromSdk() {
+        return Translator.translateTagsFromSdk(sdkTags);
+    }
+}
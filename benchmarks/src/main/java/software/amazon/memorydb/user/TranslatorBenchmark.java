@@ -0,0 +1,83 @@
+package software.amazon.memorydb.user;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.memorydb.model.Authentication;
+import software.amazon.awssdk.services.memorydb.model.AuthenticationType;
+import software.amazon.awssdk.services.memorydb.model.DescribeUsersResponse;
+import software.amazon.awssdk.services.memorydb.model.TagResourceRequest;
+import software.amazon.awssdk.services.memorydb.model.User;
+
+/**
+ * Translations done on every user handler invocation, on a synthetic user with 50 tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final int TAGS = 50;
+
+    private DescribeUsersResponse response;
+    private Map<String, String> tags;
+    private Set<Tag> modelTags;
+    private List<software.amazon.awssdk.services.memorydb.model.Tag> sdkTags;
+
+    @Setup
+    public void setup() {
+        response = DescribeUsersResponse.builder()
+                .users(User.builder()
+                        .name("bench-user")
+                        .status("active")
+                        .accessString("on ~* &* +@all")
+                        .authentication(Authentication.builder().type(AuthenticationType.PASSWORD).passwordCount(2).build())
+                        .arn("arn:aws:memorydb:us-east-1:123456789012:user/bench-user")
+                        .build())
+                .build();
+        tags = new HashMap<>();
+        for (int i = 0; i < TAGS; i++) {
+            tags.put("key-" + i, "value-" + i);
+        }
+        modelTags = Translator.translateTags(tags);
+        sdkTags = new ArrayList<>(Translator.translateTagsToSdk(modelTags));
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(response);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromMap() {
+        return Translator.translateTags(tags);
+    }
+
+    @Benchmark
+    public Set<Tag> translateTagsFromSdk() {
+        return Translator.translateTags(sdkTags);
+    }
+
+    @Benchmark
+    public TagResourceRequest translateToTagResourceRequest() {
+        return Translator.translateToTagResourceRequest(response.users().get(0).arn(), modelTags);
+    }
+}
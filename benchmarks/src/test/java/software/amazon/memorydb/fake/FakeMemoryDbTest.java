@@ -0,0 +1,144 @@
+package software.amazon.memorydb.fake;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.memorydb.model.CreateClusterRequest;
+import software.amazon.awssdk.services.memorydb.model.CreateUserRequest;
+import software.amazon.awssdk.services.memorydb.model.DeleteUserRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeParametersRequest;
+import software.amazon.awssdk.services.memorydb.model.DescribeParametersResponse;
+import software.amazon.awssdk.services.memorydb.model.DescribeUsersRequest;
+import software.amazon.awssdk.services.memorydb.model.MemoryDbException;
+import software.amazon.awssdk.services.memorydb.model.Parameter;
+import software.amazon.awssdk.services.memorydb.model.UserNotFoundException;
+
+public class FakeMemoryDbTest {
+
+    private static final String USER_NAME = "test-user";
+    private static final String DEFAULT_PARAMETER_GROUP = "default." + FakeMemoryDb.DEFAULT_FAMILY;
+
+    private VirtualClock clock;
+    private FakeMemoryDb memoryDb;
+
+    @BeforeEach
+    public void setup() {
+        clock = new VirtualClock();
+        // Calls take no time, so that only the transitions move the clock
+        memoryDb = new FakeMemoryDb(clock).defaultLatency(Duration.ZERO);
+    }
+
+    @Test
+    public void createUser_SettlesOnceTransitionTimeHasPassed() {
+        memoryDb.transitionTimes(FakeMemoryDb.Kind.USER, Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        assertThat(memoryDb.createUser(CreateUserRequest.builder().userName(USER_NAME).accessString("on ~* +@all").build())
+                .user().status()).isEqualTo("creating");
+
+        clock.advanceMillis(Duration.ofSeconds(10).toMillis() - 1);
+        assertThat(userStatus()).isEqualTo("creating");
+
+        clock.advanceMillis(1);
+        assertThat(userStatus()).isEqualTo("active");
+    }
+
+    @Test
+    public void deleteUser_RemovesUserOnceTransitionTimeHasPassed() {
+        memoryDb.transitionTimes(FakeMemoryDb.Kind.USER, Duration.ZERO, Duration.ZERO, Duration.ofSeconds(10)).withUser(USER_NAME);
+
+        assertThat(memoryDb.deleteUser(DeleteUserRequest.builder().userName(USER_NAME).build()).user().status())
+                .isEqualTo("deleting");
+        assertThat(userStatus()).isEqualTo("deleting");
+
+        clock.advance(Duration.ofSeconds(10));
+        assertThatThrownBy(this::userStatus).isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    public void createCluster_StaysCreatingForTheCreateTime() {
+        memoryDb.transitionTimes(FakeMemoryDb.Kind.CLUSTER, Duration.ofMinutes(15), Duration.ofMinutes(10), Duration.ofMinutes(5));
+        memoryDb.createCluster(CreateClusterRequest.builder().clusterName("test-cluster").nodeType("db.r6g.large").aclName("open-access").build());
+
+        clock.advance(Duration.ofMinutes(15).minusSeconds(1));
+        assertThat(clusterStatus("test-cluster")).isEqualTo("creating");
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(clusterStatus("test-cluster")).isEqualTo("available");
+    }
+
+    @Test
+    public void call_AdvancesClockByLatencyOfApi() {
+        memoryDb.latency("DescribeUsers", Duration.ofMillis(200)).withUser(USER_NAME);
+
+        userStatus();
+        memoryDb.describeParameters(DescribeParametersRequest.builder().parameterGroupName(DEFAULT_PARAMETER_GROUP).build());
+
+        assertThat(clock.millis()).isEqualTo(200L);
+    }
+
+    @Test
+    public void call_ThrottlesCallsOverRateAndRefillsOnClock() {
+        memoryDb.throttle("DescribeUsers", 1.0, 2).withUser(USER_NAME);
+
+        userStatus();
+        userStatus();
+        assertThatThrownBy(this::userStatus)
+                .isInstanceOfSatisfying(MemoryDbException.class, e -> assertThat(e.isThrottlingException()).isTrue());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(userStatus()).isEqualTo("active");
+
+        assertThat(memoryDb.getCalls()).containsEntry("DescribeUsers", 4);
+        assertThat(memoryDb.getThrottledCalls()).containsEntry("DescribeUsers", 1);
+        // only the throttled API is limited
+        memoryDb.describeParameters(DescribeParametersRequest.builder().parameterGroupName(DEFAULT_PARAMETER_GROUP).build());
+        assertThat(memoryDb.getThrottledCalls()).doesNotContainKey("DescribeParameters");
+    }
+
+    @Test
+    public void describeParameters_PaginatesWithNextToken() {
+        final List<Parameter> parameters = new ArrayList<>();
+        String nextToken = null;
+        int pages = 0;
+        do {
+            final DescribeParametersResponse response = memoryDb.describeParameters(DescribeParametersRequest.builder()
+                    .parameterGroupName(DEFAULT_PARAMETER_GROUP)
+                    .maxResults(60)
+                    .nextToken(nextToken)
+                    .build());
+            assertThat(response.parameters()).hasSizeLessThanOrEqualTo(60);
+            parameters.addAll(response.parameters());
+            nextToken = response.nextToken();
+            pages++;
+        } while (nextToken != null);
+
+        assertThat(pages).isEqualTo(4);
+        assertThat(parameters).extracting(Parameter::name).doesNotHaveDuplicates().hasSize(200);
+        assertThat(memoryDb.getCalls()).containsEntry("DescribeParameters", 4);
+    }
+
+    @Test
+    public void describeParameters_DefaultsToPageOfHundred() {
+        final DescribeParametersResponse response = memoryDb.describeParameters(
+                DescribeParametersRequest.builder().parameterGroupName(DEFAULT_PARAMETER_GROUP).build());
+
+        assertThat(response.parameters()).hasSize(100);
+        assertThat(response.nextToken()).isEqualTo("100");
+    }
+
+    private String userStatus() {
+        return memoryDb.describeUsers(DescribeUsersRequest.builder().userName(USER_NAME).build()).users().get(0).status();
+    }
+
+    private String clusterStatus(final String clusterName) {
+        return memoryDb.describeClusters(DescribeClustersRequest.builder().clusterName(clusterName).build()).clusters().get(0).status();
+    }
+}
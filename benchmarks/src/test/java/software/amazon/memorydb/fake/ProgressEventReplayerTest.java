@@ -0,0 +1,144 @@
+package software.amazon.memorydb.fake;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.memorydb.model.DescribeUsersRequest;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+public class ProgressEventReplayerTest {
+
+    private static final String MODEL = "model";
+
+    /**
+     * Callback context of the fake handlers, goes through JSON between invocations.
+     */
+    public static class Context {
+        private int polls;
+        // no accessors, so it does not survive the JSON round trip
+        private int notPersisted;
+
+        public int getPolls() {
+            return polls;
+        }
+
+        public void setPolls(final int polls) {
+            this.polls = polls;
+        }
+    }
+
+    private FakeMemoryDb memoryDb;
+    private ProgressEventReplayer replayer;
+
+    @BeforeEach
+    public void setup() {
+        memoryDb = new FakeMemoryDb(new VirtualClock()).defaultLatency(Duration.ZERO);
+        replayer = new ProgressEventReplayer(memoryDb);
+    }
+
+    @Test
+    public void replay_CallsBackWithReturnedContextUntilDone() {
+        final WorkflowResult result = replayer.replay("poll", MODEL, Context.class, (model, callbackContext) -> {
+            final Context context = callbackContext != null ? callbackContext : new Context();
+            context.setPolls(context.getPolls() + 1);
+            return context.getPolls() < 3 ? inProgress(model, context, 30) : ProgressEvent.defaultSuccessHandler(model);
+        });
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(result.getInvocations()).isEqualTo(3);
+        assertThat(result.getSimulatedTime()).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    public void replay_LosesStateNotInJson() {
+        final AtomicInteger notPersisted = new AtomicInteger(-1);
+
+        replayer.replay("roundtrip", MODEL, Context.class, (model, callbackContext) -> {
+            if (callbackContext == null) {
+                final Context context = new Context();
+                context.notPersisted = 1;
+                return inProgress(model, context, 0);
+            }
+            notPersisted.set(callbackContext.notPersisted);
+            return ProgressEvent.defaultSuccessHandler(model);
+        });
+
+        assertThat(notPersisted.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void replay_WaitsAtLeastMinimumCallbackDelay() {
+        final WorkflowResult result = replayer.replay("immediate", MODEL, Context.class, (model, callbackContext) ->
+                callbackContext == null ? inProgress(model, new Context(), 0) : ProgressEvent.defaultSuccessHandler(model));
+
+        assertThat(result.getSimulatedTime()).isEqualTo(ProgressEventReplayer.MIN_CALLBACK_DELAY);
+    }
+
+    @Test
+    public void replay_InvokesAgainAfterThrottling() {
+        final AtomicInteger invocations = new AtomicInteger();
+
+        final WorkflowResult result = replayer.replay("throttled", MODEL, Context.class, (model, callbackContext) -> {
+            if (invocations.incrementAndGet() <= 2) {
+                throw new CfnThrottlingException(new RuntimeException("Rate exceeded"));
+            }
+            return ProgressEvent.defaultSuccessHandler(model);
+        });
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(result.getInvocations()).isEqualTo(3);
+        assertThat(result.getSimulatedTime()).isEqualTo(ProgressEventReplayer.THROTTLING_RETRY_DELAY.multipliedBy(2));
+    }
+
+    @Test
+    public void replay_FailsAfterMaxThrottlingRetries() {
+        final WorkflowResult result = replayer.replay("throttled", MODEL, Context.class, (model, callbackContext) -> {
+            throw new CfnThrottlingException(new RuntimeException("Rate exceeded"));
+        });
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(result.getInvocations()).isEqualTo(ProgressEventReplayer.MAX_THROTTLING_RETRIES + 1);
+    }
+
+    @Test
+    public void replay_ReportsUnexpectedExceptionsAsInternalFailure() {
+        final WorkflowResult result = replayer.replay("broken", MODEL, Context.class, (model, callbackContext) -> {
+            throw new IllegalStateException("broken");
+        });
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.InternalFailure);
+    }
+
+    @Test
+    public void replay_CountsOnlyCallsOfTheReplay() {
+        memoryDb.describeUsers(DescribeUsersRequest.builder().build());
+
+        final WorkflowResult result = replayer.replay("calls", MODEL, Context.class, (model, callbackContext) -> {
+            memoryDb.describeUsers(DescribeUsersRequest.builder().build());
+            return callbackContext == null ? inProgress(model, new Context(), 5) : ProgressEvent.defaultSuccessHandler(model);
+        });
+
+        assertThat(result.getCalls()).containsOnlyKeys("DescribeUsers").containsEntry("DescribeUsers", 2);
+        assertThat(result.getTotalCalls()).isEqualTo(2);
+        assertThat(result.getThrottledCalls()).isZero();
+    }
+
+    private static ProgressEvent<String, Context> inProgress(final String model, final Context context, final int delaySeconds) {
+        return ProgressEvent.<String, Context>builder()
+                .resourceModel(model)
+                .callbackContext(context)
+                .callbackDelaySeconds(delaySeconds)
+                .status(OperationStatus.IN_PROGRESS)
+                .build();
+    }
+}